@@ -0,0 +1,171 @@
+package jpabook.jpashop.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import jpabook.jpashop.repository.order.OrderRepository;
+import jpabook.jpashop.repository.order.query.OrderFlatDTO;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryPage;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.*;
+
+/**
+ * 주문 조회 전략별 벤치마크 (OrderApiController v3 ~ v6) <br><br>
+ *
+ * - orders x itemsPerOrder 만큼 데이터를 넣고 조회 <br>
+ * - 엔티티 조회는 매 호출마다 새 읽기 전용 트랜잭션(= 새 영속성 컨텍스트)에서 실행
+ */
+@State(Scope.Benchmark)
+public class OrderFetchBenchmark {
+
+    private static final int MEMBER_COUNT = 100;
+    private static final int ITEM_COUNT = 100;
+
+    @Param({"1000", "10000"})
+    public int orders;
+
+    @Param({"2", "10"})
+    public int itemsPerOrder;
+
+    ConfigurableApplicationContext context;
+    TransactionTemplate readOnlyTx;
+    OrderRepository orderRepository;
+    OrderQueryRepository orderQueryRepository;
+    List<OrderFlatDTO> flats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderRepository = context.getBean(OrderRepository.class);
+        orderQueryRepository = context.getBean(OrderQueryRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> insertOrders(context.getBean(EntityManager.class)));
+
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        flats = readOnlyTx.execute(status -> orderQueryRepository.findAllByDTO_flat());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * v3. 컬렉션 fetch join
+     */
+    @Benchmark
+    public List<Order> findAllWithItem() {
+        return readOnlyTx.execute(status -> orderRepository.findAllWithItem());
+    }
+
+    /**
+     * v3.1. ToOne fetch join + 페이징 (첫 페이지 100건)
+     */
+    @Benchmark
+    public List<Order> findAllWithMemberDelivery() {
+        return readOnlyTx.execute(status -> orderRepository.findAllWithMemberDelivery(0, 100));
+    }
+
+    /**
+     * v4. DTO 조회 1 + N
+     */
+    @Benchmark
+    public List<OrderQueryDTO> findOrderQueryDTOs() {
+        return readOnlyTx.execute(status -> orderQueryRepository.findOrderQueryDTOs());
+    }
+
+    /**
+     * v5. DTO 조회 1 + 1
+     */
+    @Benchmark
+    public List<OrderQueryDTO> findAllByDTO_optimization() {
+        return readOnlyTx.execute(status -> orderQueryRepository.findAllByDTO_optimization());
+    }
+
+    /**
+     * v6. 플랫 데이터 조회
+     */
+    @Benchmark
+    public List<OrderFlatDTO> findAllByDTO_flat() {
+        return readOnlyTx.execute(status -> orderQueryRepository.findAllByDTO_flat());
+    }
+
+    /**
+     * v7. 플랫 데이터 + keyset 페이징 (첫 페이지 100건, 그룹핑 포함)
+     */
+    @Benchmark
+    public OrderQueryPage findAllByDTO_flatPage() {
+        return readOnlyTx.execute(status -> orderQueryRepository.findAllByDTO_flat(0L, 100));
+    }
+
+    /**
+     * v6. 플랫 데이터 -> OrderQueryDTO 그룹핑 (조회 제외, 메모리 작업만)
+     */
+    @Benchmark
+    public List<OrderQueryDTO> groupFlat() {
+        return flats.stream()
+                .collect(groupingBy(o -> new OrderQueryDTO(o.getOrderId(), o.getName(), o.getOrderDate(), o.getOrderStatus(), o.getAddress()),
+                        mapping(o -> new OrderItemQueryDTO(o.getOrderId(), o.getItemName(), o.getOrderPrice(), o.getCount()), toList())
+                )).entrySet().stream()
+                .map(e -> new OrderQueryDTO(e.getKey().getOrderId(), e.getKey().getName(), e.getKey().getOrderDate(), e.getKey().getOrderStatus(), e.getKey().getAddress(), e.getValue()))
+                .collect(toList());
+    }
+
+    private void insertOrders(EntityManager em) {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = new Member();
+            member.setName("member" + i);
+            member.setAddress(new Address("city" + i, "street" + i, "zipcode" + i));
+            em.persist(member);
+            memberIds.add(member.getId());
+        }
+
+        List<Long> itemIds = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Book book = new Book();
+            book.setName("book" + i);
+            book.setPrice(10000 + i * 100);
+            em.persist(book);
+            itemIds.add(book.getId());
+        }
+
+        for (int i = 0; i < orders; i++) {
+            Member member = em.find(Member.class, memberIds.get(i % MEMBER_COUNT));
+
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+
+            OrderItem[] orderItems = new OrderItem[itemsPerOrder];
+            for (int j = 0; j < itemsPerOrder; j++) {
+                Item item = em.getReference(Item.class, itemIds.get((i + j) % ITEM_COUNT));
+                orderItems[j] = OrderItem.createReservedOrderItem(item, 10000, j + 1);
+            }
+
+            em.persist(Order.createOrder(member, delivery, orderItems));
+
+            if ((i + 1) % 1000 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+    }
+}
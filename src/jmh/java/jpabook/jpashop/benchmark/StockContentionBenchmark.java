@@ -0,0 +1,68 @@
+package jpabook.jpashop.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.service.ItemService;
+import jpabook.jpashop.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한 상품에 주문이 몰릴 때의 처리량 <br><br>
+ *
+ * - shardCount = 0 : item row 하나에서 재고 차감 <br>
+ * - shardCount > 0 : item_stock_shard 버킷에 나누어 차감 <br>
+ * - 스레드 수를 바꿔가며 실행 (./gradlew jmh -PjmhIncludes=StockContentionBenchmark -PjmhThreads=8)
+ */
+@State(Scope.Benchmark)
+public class StockContentionBenchmark {
+
+    @Param({"0", "8"})
+    public int shardCount;
+
+    ConfigurableApplicationContext context;
+    OrderService orderService;
+    Long memberId;
+    Long itemId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderService = context.getBean(OrderService.class);
+
+        EntityManager em = context.getBean(EntityManager.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            Member member = new Member();
+            member.setName("member");
+            member.setAddress(new Address("city", "street", "zipcode"));
+            em.persist(member);
+
+            Book book = new Book();
+            book.setName("hot item");
+            book.setPrice(10000);
+            book.setStockQuantity(Integer.MAX_VALUE / 2);
+            em.persist(book);
+
+            memberId = member.getId();
+            itemId = book.getId();
+        });
+
+        if (shardCount > 0) {
+            context.getBean(ItemService.class).shardStock(itemId, shardCount);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long order() {
+        return orderService.order(memberId, itemId, 1);
+    }
+}
@@ -0,0 +1,91 @@
+package jpabook.jpashop.loadtest;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.JpashopApplication;
+import jpabook.jpashop.domain.order.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 전체(HTTP ~ DB) 부하 테스트 <br><br>
+ *
+ * - 임의 포트로 애플리케이션을 띄우고 datagen 프로필로 데이터 생성 후 HTTP 로 부하 <br>
+ * - 설정은 LoadTestOptions 참고, 결과는 LoadTestReport JSON <br>
+ * - ./gradlew loadTest -PloadTestArgs="rate=500 duration=60 jpashop.datagen.orders=100000"
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JpashopApplication.class)
+                .profiles("datagen")
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.jpabook.jpashop.datagen=info",
+                        "logging.level.jpabook.jpashop.loadtest=info")
+                .properties(options.appProperties().toArray(String[]::new))
+                .run();
+
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Targets targets = loadTargets(context);
+            Map<String, Long> data = countData(context);
+            log.info("부하 시작 : port={}, data={}, rate={}/s, clients={}", port, data, options.rate(), options.clients());
+
+            Map<Operation, OperationStats> stats = new OpenLoopDriver(options, URI.create("http://localhost:" + port), targets).run();
+
+            LoadTestReport report = new LoadTestReport(options, data, stats);
+            Path path = Path.of(options.report());
+            report.write(path);
+            System.out.print(report.summary());
+            log.info("결과 : {}", path.toAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Targets loadTargets(ConfigurableApplicationContext context) {
+        EntityManager em = context.getBean(EntityManager.class);
+        TransactionTemplate tx = readOnlyTx(context);
+
+        return tx.execute(status -> new Targets(
+                em.createQuery("select m.id from Member m", Long.class).getResultList(),
+                em.createQuery("select i.id from Item i", Long.class).getResultList(),
+                em.createQuery("select o.id from Order o where o.status = :status order by o.id", Long.class)
+                        .setParameter("status", OrderStatus.ORDER)
+                        .getResultList(),
+                em.createQuery("select coalesce(max(o.id), 0) from Order o", Long.class).getSingleResult()));
+    }
+
+    private static Map<String, Long> countData(ConfigurableApplicationContext context) {
+        EntityManager em = context.getBean(EntityManager.class);
+        TransactionTemplate tx = readOnlyTx(context);
+
+        return tx.execute(status -> {
+            Map<String, Long> data = new LinkedHashMap<>();
+            for (String entity : List.of("Member", "Item", "Order", "OrderItem")) {
+                data.put(entity, em.createQuery("select count(e) from " + entity + " e", Long.class).getSingleResult());
+            }
+            return data;
+        });
+    }
+
+    private static TransactionTemplate readOnlyTx(ConfigurableApplicationContext context) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tx.setReadOnly(true);
+        return tx;
+    }
+}
@@ -0,0 +1,77 @@
+package jpabook.jpashop.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (key=value 인자) <br><br>
+ *
+ * - rate : 초당 요청 수 (도착률, 응답 속도와 무관하게 유지) <br>
+ * - arrival : constant | poisson (요청 간격 분포) <br>
+ * - warmup, duration : 초, warmup 구간은 기록X <br>
+ * - clients : 동시 요청 스레드 수 <br>
+ * - mix : 작업별 비율 (ex. order=30,search=20,cancel=5,v3.1=15,v5=15,v8=15) <br>
+ * - report : 결과 JSON 경로 <br>
+ * - jpashop.*, spring.*, server.* : 애플리케이션 설정으로 전달 (ex. jpashop.datagen.orders=100000)
+ */
+record LoadTestOptions(int rate,
+                       String arrival,
+                       Duration warmup,
+                       Duration duration,
+                       int clients,
+                       Map<Operation, Integer> mix,
+                       String report,
+                       long seed,
+                       List<String> appProperties) {
+
+    private static final String DEFAULT_MIX = "order=30,search=20,cancel=5,v3.1=15,v5=15,v8=15";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> appProperties = new ArrayList<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = option.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다 : " + arg);
+            }
+
+            String key = option.substring(0, eq);
+            if (key.startsWith("jpashop.") || key.startsWith("spring.") || key.startsWith("server.")) {
+                appProperties.add(option);
+            } else {
+                values.put(key, option.substring(eq + 1));
+            }
+        }
+
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                values.getOrDefault("arrival", "poisson"),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Integer.parseInt(values.getOrDefault("clients", "64")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                values.getOrDefault("report", "build/reports/loadtest/loadtest-" + System.currentTimeMillis() + ".json"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                appProperties);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = Integer.parseInt(pair[1]);
+            if (weight > 0) {
+                weights.put(Operation.byKey(pair[0]), weight);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 작업이 없습니다 : " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,118 @@
+package jpabook.jpashop.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 JSON <br><br>
+ *
+ * - 작업별 처리량, 오류 수, latency / serviceTime 백분위 (ms) <br>
+ * - histogram : HdrHistogram 압축 인코딩(base64), 빌드 간 비교 시 원본 분포 복원용 (HistogramLogReader 등)
+ */
+class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final Map<String, Object> root = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestOptions options, Map<String, Long> data, Map<Operation, OperationStats> stats) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", options.rate());
+        config.put("arrival", options.arrival());
+        config.put("warmupSeconds", options.warmup().toSeconds());
+        config.put("durationSeconds", options.duration().toSeconds());
+        config.put("clients", options.clients());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        config.put("mix", mix);
+        config.put("seed", options.seed());
+        config.put("appProperties", options.appProperties());
+
+        root.put("createdAt", Instant.now().toString());
+        root.put("config", config);
+        root.put("data", data);
+
+        double seconds = options.duration().toMillis() / 1000.0;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats s = entry.getValue();
+            operations.put(entry.getKey().key(), operation(s.latency, s.serviceTime, s.errors.sum(), seconds));
+            total.add(s.latency);
+            totalErrors += s.errors.sum();
+        }
+        root.put("operations", operations);
+        root.put("total", operation(total, null, totalErrors, seconds));
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), root);
+    }
+
+    /**
+     * 콘솔 출력용 요약 (작업별 한 줄)
+     */
+    String summary() {
+        StringBuilder sb = new StringBuilder(String.format("%-8s %10s %8s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> operations = (Map<String, Map<String, Object>>) root.get("operations");
+        operations.forEach((key, op) -> sb.append(line(key, op)));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> total = (Map<String, Object>) root.get("total");
+        sb.append(line("total", total));
+        return sb.toString();
+    }
+
+    private static String line(String key, Map<String, Object> op) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> latency = (Map<String, Object>) op.get("latencyMs");
+        return String.format("%-8s %10d %8d %10.2f %10.2f %10.2f %10.2f%n", key, op.get("count"), op.get("errors"),
+                latency.get("p50"), latency.get("p99"), latency.get("p99.9"), latency.get("max"));
+    }
+
+    private static Map<String, Object> operation(Histogram latency, Histogram serviceTime, long errors, double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", latency.getTotalCount());
+        result.put("errors", errors);
+        result.put("throughput", latency.getTotalCount() / seconds);
+        result.put("latencyMs", percentiles(latency));
+        if (serviceTime != null) {
+            result.put("serviceTimeMs", percentiles(serviceTime));
+        }
+        result.put("histogram", encode(latency));
+        return result;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            String key = "p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile));
+            result.put(key, histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        result.put("max", histogram.getMaxValue() / 1000.0);
+        result.put("mean", histogram.getMean() / 1000.0);
+        return result;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
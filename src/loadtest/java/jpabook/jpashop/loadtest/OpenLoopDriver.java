@@ -0,0 +1,136 @@
+package jpabook.jpashop.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-loop) 부하 발생기 <br><br>
+ *
+ * - 요청 도착 시각을 미리 정해두고(rate, arrival) 응답을 기다리지 않고 계속 발생 <br>
+ * - 요청은 clients 개 스레드가 처리, 스레드가 모두 바쁘면 큐에서 대기하고 대기 시간도 latency 에 포함 <br>
+ * - warmup 구간에 예정된 요청은 보내기만 하고 기록X
+ */
+@Slf4j
+class OpenLoopDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestOptions options;
+    private final URI base;
+    private final Targets targets;
+    private final HttpClient client;
+
+    OpenLoopDriver(LoadTestOptions options, URI base, Targets targets) {
+        this.options = options;
+        this.base = base;
+        this.targets = targets;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER) // 주문, 취소는 redirect 응답까지만 측정
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Map<Operation, OperationStats> run() throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        options.mix().keySet().forEach(o -> stats.put(o, new OperationStats()));
+
+        Operation[] operations = options.mix().keySet().toArray(Operation[]::new);
+        int[] cumulativeWeights = new int[operations.length];
+        int totalWeight = 0;
+        for (int i = 0; i < operations.length; i++) {
+            totalWeight += options.mix().get(operations[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(options.clients(), options.clients(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        SplittableRandom random = new SplittableRandom(options.seed());
+        double meanIntervalNanos = 1_000_000_000.0 / options.rate();
+
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long end = recordFrom + options.duration().toNanos();
+        long intended = start;
+        int maxBacklog = 0;
+
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = pick(operations, cumulativeWeights, random.nextInt(totalWeight));
+            OperationStats operationStats = stats.get(operation);
+            boolean record = intended >= recordFrom;
+
+            try {
+                HttpRequest request = operation.request(base, targets, random);
+                long scheduled = intended;
+                executor.execute(() -> send(request, scheduled, record ? operationStats : null));
+            } catch (RuntimeException e) {
+                if (record) {
+                    operationStats.errors.increment();
+                }
+            }
+
+            maxBacklog = Math.max(maxBacklog, executor.getQueue().size());
+            intended += "constant".equals(options.arrival())
+                    ? (long) meanIntervalNanos
+                    : (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos); // 포아송 도착
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            log.warn("{}초 안에 끝나지 않은 요청 {}건은 기록X", DRAIN_TIMEOUT.toSeconds(), executor.shutdownNow().size());
+        }
+        log.info("최대 대기 요청 수 : {}", maxBacklog);
+        return stats;
+    }
+
+    private void send(HttpRequest request, long intendedNanos, OperationStats stats) {
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long completed = System.nanoTime();
+            if (stats == null) {
+                return;
+            }
+
+            if (response.statusCode() >= 400) {
+                stats.errors.increment();
+            } else {
+                stats.record(intendedNanos, sent, completed);
+            }
+        } catch (Exception e) {
+            if (stats != null) {
+                stats.errors.increment();
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Operation pick(Operation[] operations, int[] cumulativeWeights, int value) {
+        for (int i = 0; i < operations.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
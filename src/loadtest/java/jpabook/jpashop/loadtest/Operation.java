@@ -0,0 +1,101 @@
+package jpabook.jpashop.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 작업 (엔드포인트별 요청 생성)
+ */
+enum Operation {
+
+    /**
+     * OrderController.order -> OrderService.order (폼 전송, 응답은 redirect)
+     */
+    ORDER("order") {
+        @Override
+        HttpRequest request(URI base, Targets targets, SplittableRandom random) {
+            String form = "memberId=" + targets.randomMember(random)
+                    + "&itemId=" + targets.randomItem(random)
+                    + "&count=" + (1 + random.nextInt(3));
+            return HttpRequest.newBuilder(base.resolve("/order"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(BodyPublishers.ofString(form))
+                    .build();
+        }
+    },
+
+    /**
+     * 주문 검색 화면 (회원 이름 prefix + 주문 상태)
+     */
+    SEARCH("search") {
+        @Override
+        HttpRequest request(URI base, Targets targets, SplittableRandom random) {
+            return get(base, "/orders?memberName=member" + random.nextInt(100) + "&orderStatus=ORDER&size=100");
+        }
+    },
+
+    /**
+     * OrderController.cancelOrder, 기존 주문을 한 번씩만 취소
+     */
+    CANCEL("cancel") {
+        @Override
+        HttpRequest request(URI base, Targets targets, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/orders/" + targets.nextCancelableOrder() + "/cancel"))
+                    .POST(BodyPublishers.noBody())
+                    .build();
+        }
+    },
+
+    V3_1("v3.1") {
+        @Override
+        HttpRequest request(URI base, Targets targets, SplittableRandom random) {
+            return get(base, "/api/v3.1/orders?after=" + targets.randomCursor(random) + "&limit=100");
+        }
+    },
+
+    V5("v5") {
+        @Override
+        HttpRequest request(URI base, Targets targets, SplittableRandom random) {
+            return get(base, "/api/v5/orders?after=" + targets.randomCursor(random) + "&limit=100");
+        }
+    },
+
+    /**
+     * 전체 주문 스트리밍 (gzip)
+     */
+    V8("v8") {
+        @Override
+        HttpRequest request(URI base, Targets targets, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/v8/orders"))
+                    .header("Accept-Encoding", "gzip")
+                    .GET()
+                    .build();
+        }
+    };
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest request(URI base, Targets targets, SplittableRandom random);
+
+    static Operation byKey(String key) {
+        return Arrays.stream(values())
+                .filter(o -> o.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 작업 : " + key));
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+    }
+}
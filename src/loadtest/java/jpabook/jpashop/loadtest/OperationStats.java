@@ -0,0 +1,24 @@
+package jpabook.jpashop.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 측정값 (마이크로초) <br><br>
+ *
+ * - latency : 예정 시각(도착 시각)부터 응답 완료까지, 서버가 밀려 요청이 늦게 나간 시간까지 포함 (coordinated omission 보정) <br>
+ * - serviceTime : 실제 전송 시각부터 응답 완료까지 (보정X, latency 와 비교용)
+ */
+class OperationStats {
+
+    final Histogram latency = new ConcurrentHistogram(3);
+    final Histogram serviceTime = new ConcurrentHistogram(3);
+    final LongAdder errors = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long completedNanos) {
+        latency.recordValue((completedNanos - intendedNanos) / 1_000);
+        serviceTime.recordValue((completedNanos - sentNanos) / 1_000);
+    }
+}
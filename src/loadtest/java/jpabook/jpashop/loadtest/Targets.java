@@ -0,0 +1,49 @@
+package jpabook.jpashop.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청에 넣을 id (부하 시작 전에 DB 에서 한 번 읽어둠) <br>
+ * - 취소할 주문은 주문 상태인 주문을 앞에서부터 한 번씩 사용, 다 쓰면 예외
+ */
+class Targets {
+
+    private final long[] memberIds;
+    private final long[] itemIds;
+    private final long[] cancelableOrderIds;
+    private final long maxOrderId;
+    private final AtomicInteger nextCancel = new AtomicInteger();
+
+    Targets(List<Long> memberIds, List<Long> itemIds, List<Long> cancelableOrderIds, long maxOrderId) {
+        if (memberIds.isEmpty() || itemIds.isEmpty()) {
+            throw new IllegalStateException("회원, 상품 데이터가 없습니다 (jpashop.datagen.* 확인)");
+        }
+
+        this.memberIds = memberIds.stream().mapToLong(Long::longValue).toArray();
+        this.itemIds = itemIds.stream().mapToLong(Long::longValue).toArray();
+        this.cancelableOrderIds = cancelableOrderIds.stream().mapToLong(Long::longValue).toArray();
+        this.maxOrderId = maxOrderId;
+    }
+
+    long randomMember(SplittableRandom random) {
+        return memberIds[random.nextInt(memberIds.length)];
+    }
+
+    long randomItem(SplittableRandom random) {
+        return itemIds[random.nextInt(itemIds.length)];
+    }
+
+    long randomCursor(SplittableRandom random) {
+        return maxOrderId == 0 ? 0 : random.nextLong(maxOrderId);
+    }
+
+    long nextCancelableOrder() {
+        int index = nextCancel.getAndIncrement();
+        if (index >= cancelableOrderIds.length) {
+            throw new IllegalStateException("취소할 주문이 부족합니다 (" + cancelableOrderIds.length + "건)");
+        }
+        return cancelableOrderIds[index];
+    }
+}
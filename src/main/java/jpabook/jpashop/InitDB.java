@@ -9,14 +9,17 @@ import jpabook.jpashop.domain.order.Delivery;
 import jpabook.jpashop.domain.order.Order;
 import jpabook.jpashop.domain.order.OrderItem;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * - userA : JPA1 BOOK, JPA2 BOOK <br>
- * - userB : SPRING1 BOOK, SPRING2 BOOK
+ * - userB : SPRING1 BOOK, SPRING2 BOOK <br>
+ * - datagen 프로필에서는 DataGenerator 로 대량 데이터를 넣으므로 실행X
  */
 @Component
+@Profile("!datagen")
 @RequiredArgsConstructor
 public class InitDB {
 
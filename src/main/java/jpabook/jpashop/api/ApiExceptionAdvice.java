@@ -0,0 +1,30 @@
+package jpabook.jpashop.api;
+
+import jakarta.validation.ConstraintViolationException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * API 요청 값 오류 -> 400 <br>
+ * - @Validated 컨트롤러의 파라미터 검증 실패 (ConstraintViolationException) <br>
+ * - 존재하지 않는 id, 잘못된 파라미터 조합 (IllegalArgumentException)
+ */
+@RestControllerAdvice(basePackages = "jpabook.jpashop.api")
+public class ApiExceptionAdvice {
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({ConstraintViolationException.class, IllegalArgumentException.class})
+    public ErrorResult badRequest(RuntimeException e) {
+        return new ErrorResult(e.getMessage());
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class ErrorResult {
+        private String message;
+    }
+}
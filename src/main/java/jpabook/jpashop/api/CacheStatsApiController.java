@@ -0,0 +1,59 @@
+package jpabook.jpashop.api;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 2차 캐시 통계 조회 (영역별 hit / miss / put, 쿼리 캐시 hit / miss)
+ */
+@RestController
+@RequiredArgsConstructor
+public class CacheStatsApiController {
+
+    private final EntityManagerFactory emf;
+
+    @GetMapping("/api/cache-stats")
+    public CacheStatsResponse cacheStats() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, RegionStatsDTO> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, new RegionStatsDTO(region.getHitCount(), region.getMissCount(),
+                        region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+
+        RegionStatsDTO query = new RegionStatsDTO(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), -1);
+
+        return new CacheStatsResponse(regions, query);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class CacheStatsResponse {
+        private Map<String, RegionStatsDTO> regions;
+        private RegionStatsDTO query;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class RegionStatsDTO {
+        private long hit;
+        private long miss;
+        private long put;
+        private long size; // 알 수 없으면 -1
+    }
+}
@@ -0,0 +1,103 @@
+package jpabook.jpashop.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.dto.CategoryNode;
+import jpabook.jpashop.service.CategoryService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@Validated
+@RequiredArgsConstructor
+public class CategoryApiController {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CategoryService categoryService;
+
+    /**
+     * 카테고리 트리 : 메모리에 적재된 트리 반환 (쿼리 0번)
+     */
+    @GetMapping("/api/categories")
+    public Result<List<CategoryNode>> categories() {
+        return new Result<>(categoryService.findTree());
+    }
+
+    /**
+     * 하위 카테고리를 포함한 카테고리의 상품 <br>
+     * - size + 1 개를 조회해서 다음 페이지 여부 판단 (count 쿼리 없음) <br>
+     * - page 는 0 이상, size 는 1 ~ MAX_PAGE_SIZE
+     */
+    @GetMapping("/api/categories/{id}/items")
+    public PageResult<List<CategoryItemDTO>> categoryItems(@PathVariable("id") Long id,
+                                                           @RequestParam(value = "page", defaultValue = "0") @Min(0) int page,
+                                                           @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        List<Item> items = categoryService.findSubtreeItems(id, offset, size + 1);
+        boolean hasNext = items.size() > size;
+
+        List<CategoryItemDTO> collect = items.stream()
+                .limit(size)
+                .map(CategoryItemDTO::new)
+                .collect(Collectors.toList());
+
+        return new PageResult<>(collect, hasNext);
+    }
+
+    @PostMapping("/api/categories")
+    public CreateCategoryResponse saveCategory(@RequestBody @Valid CreateCategoryRequest request) {
+        Long id = categoryService.create(request.getName(), request.getParentId());
+        return new CreateCategoryResponse(id);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Result<T> {
+        private T data;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class PageResult<T> {
+        private T data;
+        private boolean hasNext;
+    }
+
+    @Data
+    static class CategoryItemDTO {
+        private Long itemId;
+        private String name;
+        private int price;
+        private int stockQuantity;
+
+        public CategoryItemDTO(Item item) {
+            itemId = item.getId();
+            name = item.getName();
+            price = item.getPrice();
+            stockQuantity = item.getStockQuantity();
+        }
+    }
+
+    @Data
+    static class CreateCategoryRequest {
+        @NotEmpty
+        private String name;
+        private Long parentId;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class CreateCategoryResponse {
+        private Long id;
+    }
+}
@@ -0,0 +1,31 @@
+package jpabook.jpashop.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이징 응답 <br><br>
+ *
+ * - nextCursor : 다음 페이지 조회 시 after 파라미터로 넘길 값, 마지막 페이지면 null <br>
+ * - limit 은 1 ~ MAX_LIMIT (컨트롤러에서 @Min, @Max 로 검증)
+ */
+@Data
+@AllArgsConstructor
+public class CursorResult<T> {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private T data;
+    private Long nextCursor;
+
+    /**
+     * limit 건을 다 채웠으면 마지막 항목의 cursor 값이 다음 커서, 덜 채웠으면 마지막 페이지
+     */
+    public static <E> CursorResult<List<E>> of(List<E> data, int limit, Function<E, Long> cursor) {
+        Long nextCursor = data.isEmpty() || data.size() < limit ? null : cursor.apply(data.get(data.size() - 1));
+        return new CursorResult<>(data, nextCursor);
+    }
+}
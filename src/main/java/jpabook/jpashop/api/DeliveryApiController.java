@@ -0,0 +1,53 @@
+package jpabook.jpashop.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jpabook.jpashop.service.DeliveryService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class DeliveryApiController {
+
+    private final DeliveryService deliveryService;
+
+    /**
+     * 배송 완료 일괄 처리 : 배송 id 목록 또는 주문일 범위 중 하나로 지정
+     */
+    @PostMapping("/api/deliveries/complete")
+    public CompleteDeliveryResponse completeDeliveries(@RequestBody @Valid CompleteDeliveryRequest request) {
+        int updated = request.getDeliveryIds() != null
+                ? deliveryService.completeDeliveries(request.getDeliveryIds())
+                : deliveryService.completeDeliveriesByOrderDate(request.getOrderDateFrom(), request.getOrderDateTo());
+
+        return new CompleteDeliveryResponse(updated);
+    }
+
+    @Data
+    static class CompleteDeliveryRequest {
+        private List<Long> deliveryIds;
+        private LocalDate orderDateFrom;
+        private LocalDate orderDateTo; // 해당 일자 포함
+
+        @AssertTrue(message = "deliveryIds 또는 orderDateFrom, orderDateTo 중 하나만 지정해야 합니다.")
+        public boolean isTargetSpecified() {
+            boolean byIds = deliveryIds != null;
+            boolean byDate = orderDateFrom != null && orderDateTo != null;
+            return byIds != byDate;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class CompleteDeliveryResponse {
+        private int updated;
+    }
+}
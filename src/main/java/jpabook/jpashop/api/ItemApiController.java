@@ -0,0 +1,59 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
+import jpabook.jpashop.service.ItemService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequiredArgsConstructor
+public class ItemApiController {
+
+    private final ItemService itemService;
+    private final VersionedResponseCache versionedResponseCache;
+
+    /**
+     * 상품 목록 : 상품 버전이 같으면 304, 직렬화한 본문은 버전별로 캐시 (VersionedResponseCache) <br>
+     * - 주문, 취소로 재고가 바뀌어도 버전이 올라감
+     */
+    @GetMapping("/api/v2/items")
+    public ResponseEntity<byte[]> itemsV2(WebRequest request) {
+        return versionedResponseCache.respond("items-v2", Aggregate.ITEM, request, () -> {
+            List<ItemDTO> collect = itemService.findItems().stream()
+                    .map(ItemDTO::new)
+                    .collect(Collectors.toList());
+
+            return new Result<>(collect);
+        });
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Result<T> {
+        private T data;
+    }
+
+    @Data
+    static class ItemDTO {
+        private Long itemId;
+        private String name;
+        private int price;
+        private int stockQuantity;
+
+        public ItemDTO(Item item) {
+            itemId = item.getId();
+            name = item.getName();
+            price = item.getPrice();
+            stockQuantity = item.getStockQuantity();
+        }
+    }
+}
@@ -1,22 +1,38 @@
 package jpabook.jpashop.api;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.monitoring.QueryBudget;
+import jpabook.jpashop.repository.order.query.MemberOrderQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
 import jpabook.jpashop.service.MemberService;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @RestController // @Controller + @ResponseBody
+@Validated
 @RequiredArgsConstructor
 public class MemberApiController {
 
+    public static final int MAX_ORDERS_LIMIT = 256; // 주문상품도 IN 쿼리 1번으로 조회되는 크기 (OrderQueryRepository 분할 단위)
+
     private final MemberService memberService;
+    private final OrderQueryRepository orderQueryRepository;
+    private final VersionedResponseCache versionedResponseCache;
 
     /**
      * 조회 v1 : 응답 값으로 엔티티를 직접 외부에 노출한다. <br><br>
@@ -35,16 +51,56 @@ public class MemberApiController {
     }
 
     /**
-     * 조회 v2 : 응답 값으로 엔티티가 아닌 별도의 DTO 를 반환한다.
+     * 조회 v2 : 응답 값으로 엔티티가 아닌 별도의 DTO 를 반환한다. <br>
+     * - 회원 버전이 같으면 304, 직렬화한 본문은 버전별로 캐시 (VersionedResponseCache)
      */
     @GetMapping("/api/v2/members")
-    public Result<?> membersV2() {
-        List<Member> findMembers = memberService.findMembers();
-        List<MemberDTO> collect = findMembers.stream()
-                .map(m -> new MemberDTO(m.getName()))
-                .collect(Collectors.toList());
+    public ResponseEntity<byte[]> membersV2(WebRequest request) {
+        return versionedResponseCache.respond("members-v2", Aggregate.MEMBER, request, () -> {
+            List<Member> findMembers = memberService.findMembers();
+            List<MemberDTO> collect = findMembers.stream()
+                    .map(m -> new MemberDTO(m.getName()))
+                    .collect(Collectors.toList());
+
+            return new Result<>(collect);
+        });
+    }
+
+    /**
+     * 회원 주문 내역 : 최신순 커서(keyset) 페이징 <br><br>
+     *
+     * - 회원, 주문 컬렉션을 조회하지 않고 DTO 로 바로 조회 ((member_id, order_date desc, order_id desc) 인덱스) <br>
+     * - 다음 페이지는 응답의 nextOrderDate, nextOrderId 를 beforeDate, beforeId 로 전달 (둘 중 하나만 있으면 400) <br>
+     * - limit 은 1 ~ MAX_ORDERS_LIMIT <br>
+     * - includeItems=true 면 주문상품을 IN 쿼리로 한 번 더 조회
+     */
+    @QueryBudget(2)
+    @GetMapping("/api/v2/members/{id}/orders")
+    public MemberOrdersResult memberOrdersV2(@PathVariable("id") Long id,
+                                             @RequestParam(value = "beforeDate", required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeDate,
+                                             @RequestParam(value = "beforeId", required = false) Long beforeId,
+                                             @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(MAX_ORDERS_LIMIT) int limit,
+                                             @RequestParam(value = "includeItems", defaultValue = "false") boolean includeItems) {
+        if ((beforeDate == null) != (beforeId == null)) {
+            throw new IllegalArgumentException("beforeDate 와 beforeId 는 함께 전달해야 합니다.");
+        }
 
-        return new Result<>(collect);
+        List<MemberOrderQueryDTO> result = orderQueryRepository.findMemberOrders(id, beforeDate, beforeId, limit, includeItems);
+        if (result.isEmpty() || result.size() < limit) {
+            return new MemberOrdersResult(result, null, null);
+        }
+
+        MemberOrderQueryDTO last = result.get(result.size() - 1);
+        return new MemberOrdersResult(result, last.getOrderDate(), last.getOrderId());
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class MemberOrdersResult {
+        private List<MemberOrderQueryDTO> data;
+        private LocalDateTime nextOrderDate;
+        private Long nextOrderId;
     }
 
     @Data
@@ -1,21 +1,40 @@
 package jpabook.jpashop.api;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jpabook.jpashop.domain.member.Address;
 import jpabook.jpashop.domain.order.Order;
 import jpabook.jpashop.domain.order.OrderItem;
 import jpabook.jpashop.domain.order.OrderSearch;
 import jpabook.jpashop.domain.order.OrderStatus;
+import jpabook.jpashop.dto.BulkOrderDTO;
+import jpabook.jpashop.dto.OrderLineDTO;
+import jpabook.jpashop.monitoring.QueryBudget;
 import jpabook.jpashop.repository.order.OrderRepository;
 import jpabook.jpashop.repository.order.query.OrderFlatDTO;
 import jpabook.jpashop.repository.order.query.OrderItemQueryDTO;
 import jpabook.jpashop.repository.order.query.OrderQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryPage;
 import jpabook.jpashop.repository.order.query.OrderQueryRepository;
+import jpabook.jpashop.service.OrderBulkService;
+import jpabook.jpashop.service.OrderService;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -23,11 +42,17 @@ import static java.util.stream.Collectors.*;
 
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class OrderApiController {
 
+    private static final int FLUSH_INTERVAL = 100;
+
     private final OrderRepository orderRepository;
     private final OrderQueryRepository orderQueryRepository;
+    private final OrderService orderService;
+    private final OrderBulkService orderBulkService;
+    private final ObjectMapper objectMapper;
 
     /**
      * v2. 엔티티를 조회해서 DTO로 변환(fetch join 사용X) <br><br>
@@ -47,6 +72,7 @@ public class OrderApiController {
      *
      * - 페이징 시에는 N 부분을 포기해야함(대신에 batch fetch size? 옵션 주면 N -> 1 쿼리로 변경 가능)
      */
+    @QueryBudget(1)
     @GetMapping("/api/v3/orders")
     public List<OrderDTO> ordersV3() {
         return orderRepository.findAllWithItem().stream()
@@ -61,14 +87,31 @@ public class OrderApiController {
      * - 컬렉션 관계는 hibernate.default_batch_fetch_size, @BatchSize로 최적화
      */
     @GetMapping("/api/v3.1/orders")
-    public List<OrderDTO> ordersV3_page(@RequestParam(value = "offset", defaultValue = "0") int offset,
-                                        @RequestParam(value = "limit", defaultValue = "100") int limit) {
+    public List<OrderDTO> ordersV3_page(@RequestParam(value = "offset", defaultValue = "0") @Min(0) int offset,
+                                        @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(CursorResult.MAX_LIMIT) int limit) {
 
         return orderRepository.findAllWithMemberDelivery(offset, limit).stream()
                 .map(OrderDTO::new)
                 .collect(toList());
     }
 
+    /**
+     * v3.1. 커서(keyset) 페이징 <br><br>
+     *
+     * - after 파라미터가 있으면 offset 대신 주문 id 기준으로 다음 페이지 조회 (첫 페이지는 after=0) <br>
+     * - offset 만큼 읽고 버리지 않으므로 뒤쪽 페이지도 첫 페이지와 비용이 같음
+     */
+    @GetMapping(value = "/api/v3.1/orders", params = "after")
+    public CursorResult<List<OrderDTO>> ordersV3_cursor(@RequestParam("after") Long after,
+                                                        @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(CursorResult.MAX_LIMIT) int limit) {
+
+        List<OrderDTO> result = orderRepository.findAllWithMemberDeliveryAfter(after, limit).stream()
+                .map(OrderDTO::new)
+                .collect(toList());
+
+        return CursorResult.of(result, limit, OrderDTO::getOrderId);
+    }
+
     /**
      * v4. JPA에서 DTO로 바로 조회, 컬렉션 N 조회 (1+NQuery) <br><br>
      *
@@ -84,16 +127,31 @@ public class OrderApiController {
      *
      * - 페이징 가능
      */
+    @QueryBudget(2)
     @GetMapping("/api/v5/orders")
     public List<OrderQueryDTO> ordersV5() {
         return orderQueryRepository.findAllByDTO_optimization();
     }
 
+    /**
+     * v5. 커서(keyset) 페이징 (1+1Query) <br><br>
+     *
+     * - 주문은 id 기준 keyset 조회, 주문상품은 해당 페이지의 주문 id 로만 IN 조회
+     */
+    @GetMapping(value = "/api/v5/orders", params = "after")
+    public CursorResult<List<OrderQueryDTO>> ordersV5_cursor(@RequestParam("after") Long after,
+                                                             @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(CursorResult.MAX_LIMIT) int limit) {
+        List<OrderQueryDTO> result = orderQueryRepository.findAllByDTO_optimization(after, limit);
+
+        return CursorResult.of(result, limit, OrderQueryDTO::getOrderId);
+    }
+
     /**
      * v6. JPA에서 DTO로 바로 조회, 플랫 데이터(1Query) (1 Query) <br><br>
      *
      * - 페이징 불가능...
      */
+    @QueryBudget(1)
     @GetMapping("/api/v6/orders")
     public List<OrderQueryDTO> ordersV6() {
         List<OrderFlatDTO> flats = orderQueryRepository.findAllByDTO_flat();
@@ -106,6 +164,136 @@ public class OrderApiController {
                 .collect(toList());
     }
 
+    /**
+     * v7. JPA에서 DTO로 바로 조회, 플랫 데이터 + 커서(keyset) 페이징 (1+1Query) <br><br>
+     *
+     * - 주문 id 로 페이지를 먼저 정하고 해당 주문의 플랫 데이터만 조회 <br>
+     * - 주문 id 순서 유지, 중간 Map 없이 한 번 순회로 묶음 <br>
+     * - 다음 커서는 주문 id 페이지 기준 (주문상품이 없는 주문이 있어도 페이지가 끊기지 않음)
+     */
+    @QueryBudget(2)
+    @GetMapping("/api/v7/orders")
+    public CursorResult<List<OrderQueryDTO>> ordersV7(@RequestParam(value = "after", defaultValue = "0") Long after,
+                                                      @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(CursorResult.MAX_LIMIT) int limit) {
+        OrderQueryPage page = orderQueryRepository.findAllByDTO_flat(after, limit);
+
+        return new CursorResult<>(page.getOrders(), page.getNextCursor());
+    }
+
+    /**
+     * v8. 전체 주문 스트리밍 (JSON 배열) <br><br>
+     *
+     * - v6 와 같은 플랫 조회를 커서로 읽으면서 주문 단위로 JsonGenerator 에 바로 씀 (OrderJsonWriter) <br>
+     * - 응답 전체를 버퍼에 모으지 않고 chunked 로 전송, FLUSH_INTERVAL 건마다 flush -> 첫 주문부터 바로 도착 <br>
+     * - Accept-Encoding: gzip 이면 압축
+     */
+    @GetMapping("/api/v8/orders")
+    public void ordersV8(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (JsonGenerator g = createGenerator(request, response, MediaType.APPLICATION_JSON_VALUE)) {
+            g.writeStartArray();
+            streamOrders(g);
+            g.writeEndArray();
+        }
+    }
+
+    /**
+     * 전체 주문 내보내기 (NDJSON, 한 줄에 주문 1건) <br><br>
+     *
+     * - v8 과 같이 커서로 읽으면서 주문 단위로 바로 응답 스트림에 씀 <br>
+     * - 전체 결과를 메모리에 모으지 않으므로 주문 수와 무관하게 힙 사용량이 일정함
+     */
+    @GetMapping("/api/orders/export.ndjson")
+    public void exportOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (JsonGenerator g = createGenerator(request, response, "application/x-ndjson")) {
+            g.setRootValueSeparator(new SerializedString("\n"));
+            streamOrders(g);
+        }
+    }
+
+    /**
+     * 스트리밍 응답용 JsonGenerator <br>
+     * - AUTO_CLOSE_JSON_CONTENT 해제 : 중간에 실패하면 닫는 괄호를 붙이지 않음 -> 잘린 응답이 완전한 JSON 으로 보이지 않음
+     */
+    private JsonGenerator createGenerator(HttpServletRequest request, HttpServletResponse response, String contentType) throws IOException {
+        return objectMapper.getFactory()
+                .createGenerator(OrderJsonWriter.open(request, response, contentType))
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    }
+
+    private void streamOrders(JsonGenerator g) {
+        int[] written = {0};
+        orderQueryRepository.streamAllByDTO_flat(order -> {
+            try {
+                OrderJsonWriter.write(g, order);
+                if (++written[0] % FLUSH_INTERVAL == 0) {
+                    g.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 주문 등록 v2 : 주문 1건에 여러 상품 (장바구니 주문) <br><br>
+     *
+     * - 상품 수와 상관없이 트랜잭션 1번, 회원/배송 정보 1번만 저장
+     */
+    @PostMapping("/api/v2/orders")
+    public CreateOrderResponse saveOrderV2(@RequestBody @Valid CreateOrderRequest request) {
+        Long id = orderService.order(request.getMemberId(), request.getOrderLines());
+        return new CreateOrderResponse(id);
+    }
+
+    /**
+     * 대량 주문 등록 : 제휴사 주문 일괄 등록 <br><br>
+     *
+     * - JDBC 배치 insert + 청크 단위 flush/clear (OrderBulkService) <br>
+     * - List 본문은 @Valid 가 원소까지 전파되지 않으므로 List<@Valid ...> + @Validated 로 원소마다 검증
+     */
+    @PostMapping("/api/orders/bulk")
+    public BulkOrderResponse saveOrdersBulk(@RequestBody @NotEmpty List<@Valid BulkOrderDTO> request) {
+        int count = orderBulkService.bulkOrder(request);
+        return new BulkOrderResponse(count);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class BulkOrderResponse {
+        private int count;
+    }
+
+    /**
+     * 주문 일괄 취소 : 상품별로 합산해서 재고 복구 (OrderBulkService)
+     */
+    @PostMapping("/api/orders/cancel")
+    public BulkOrderResponse cancelOrders(@RequestBody @Valid CancelOrdersRequest request) {
+        int count = orderBulkService.cancelOrders(request.getOrderIds());
+        return new BulkOrderResponse(count);
+    }
+
+    @Data
+    static class CancelOrdersRequest {
+        @NotEmpty
+        private List<Long> orderIds;
+    }
+
+    @Data
+    static class CreateOrderRequest {
+        @NotNull
+        private Long memberId;
+
+        @NotEmpty
+        @Valid
+        private List<OrderLineDTO> orderLines;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class CreateOrderResponse {
+        private Long id;
+    }
+
     @Data
     static class OrderDTO {
         private Long orderId;
@@ -113,6 +301,7 @@ public class OrderApiController {
         private LocalDateTime orderDate;
         private OrderStatus orderStatus;
         private Address address;
+        private int totalPrice;
         private List<OrderItemDTO> orderItems; // DTO에 엔티티가 존재하면 안됨, OrderItem도 DTO로 변환하여 반환
 
         public OrderDTO(Order order) {
@@ -121,6 +310,7 @@ public class OrderApiController {
             orderDate = order.getOrderDate();
             orderStatus = order.getStatus();
             address = order.getDelivery().getAddress(); // LAZY 초기화
+            totalPrice = order.getTotalPrice();
             orderItems = order.getOrderItems().stream()
                     .map(OrderItemDTO::new)
                     .collect(toList()); // LAZY 초기화
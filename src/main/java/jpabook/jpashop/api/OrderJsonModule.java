@@ -0,0 +1,49 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import jpabook.jpashop.api.OrderApiController.OrderDTO;
+import jpabook.jpashop.api.OrderApiController.OrderItemDTO;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 주문 DTO 직렬화를 OrderJsonWriter 로 처리 (스프링 부트가 ObjectMapper 에 자동 등록)
+ */
+@Component
+public class OrderJsonModule extends SimpleModule {
+
+    public OrderJsonModule() {
+        super("OrderJsonModule");
+
+        addSerializer(new StdSerializer<>(OrderQueryDTO.class) {
+            @Override
+            public void serialize(OrderQueryDTO value, JsonGenerator g, SerializerProvider provider) throws IOException {
+                OrderJsonWriter.write(g, value);
+            }
+        });
+        addSerializer(new StdSerializer<>(OrderItemQueryDTO.class) {
+            @Override
+            public void serialize(OrderItemQueryDTO value, JsonGenerator g, SerializerProvider provider) throws IOException {
+                OrderJsonWriter.write(g, value);
+            }
+        });
+        addSerializer(new StdSerializer<>(OrderDTO.class) {
+            @Override
+            public void serialize(OrderDTO value, JsonGenerator g, SerializerProvider provider) throws IOException {
+                OrderJsonWriter.write(g, value);
+            }
+        });
+        addSerializer(new StdSerializer<>(OrderItemDTO.class) {
+            @Override
+            public void serialize(OrderItemDTO value, JsonGenerator g, SerializerProvider provider) throws IOException {
+                OrderJsonWriter.write(g, value);
+            }
+        });
+    }
+}
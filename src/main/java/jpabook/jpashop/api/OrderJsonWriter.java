@@ -0,0 +1,186 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jpabook.jpashop.api.OrderApiController.OrderDTO;
+import jpabook.jpashop.api.OrderApiController.OrderItemDTO;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryDTO;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 DTO 를 JsonGenerator 에 직접 씀 <br><br>
+ *
+ * - 리플렉션 기반 BeanSerializer 대신 필드를 하나씩 씀 (getter 탐색, 프로퍼티 메타데이터X) <br>
+ * - 필드 이름, 순서, 날짜 형식은 기존 응답과 같음 <br>
+ * - OrderJsonModule 로 등록되어 List 를 반환하는 기존 API 도 이 코드로 직렬화됨
+ */
+final class OrderJsonWriter {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private OrderJsonWriter() {
+    }
+
+    static void write(JsonGenerator g, OrderQueryDTO order) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("orderId", order.getOrderId());
+        g.writeStringField("name", order.getName());
+        writeDateTime(g, "orderDate", order.getOrderDate());
+        writeEnum(g, "orderStatus", order.getOrderStatus());
+        writeAddress(g, order.getAddress());
+        writeOrderItems(g, order.getOrderItems());
+        g.writeEndObject();
+    }
+
+    static void write(JsonGenerator g, OrderItemQueryDTO orderItem) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("orderId", orderItem.getOrderId());
+        g.writeStringField("itemName", orderItem.getItemName());
+        g.writeNumberField("orderPrice", orderItem.getOrderPrice());
+        g.writeNumberField("count", orderItem.getCount());
+        g.writeEndObject();
+    }
+
+    static void write(JsonGenerator g, OrderDTO order) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("orderId", order.getOrderId());
+        g.writeStringField("name", order.getName());
+        writeDateTime(g, "orderDate", order.getOrderDate());
+        writeEnum(g, "orderStatus", order.getOrderStatus());
+        writeAddress(g, order.getAddress());
+        g.writeNumberField("totalPrice", order.getTotalPrice());
+
+        if (order.getOrderItems() == null) {
+            g.writeNullField("orderItems");
+        } else {
+            g.writeArrayFieldStart("orderItems");
+            for (OrderItemDTO orderItem : order.getOrderItems()) {
+                write(g, orderItem);
+            }
+            g.writeEndArray();
+        }
+        g.writeEndObject();
+    }
+
+    static void write(JsonGenerator g, OrderItemDTO orderItem) throws IOException {
+        g.writeStartObject();
+        g.writeStringField("itemName", orderItem.getItemName());
+        g.writeNumberField("orderPrice", orderItem.getOrderPrice());
+        g.writeNumberField("count", orderItem.getCount());
+        g.writeEndObject();
+    }
+
+    private static void writeOrderItems(JsonGenerator g, List<OrderItemQueryDTO> orderItems) throws IOException {
+        if (orderItems == null) {
+            g.writeNullField("orderItems");
+            return;
+        }
+
+        g.writeArrayFieldStart("orderItems");
+        for (OrderItemQueryDTO orderItem : orderItems) {
+            write(g, orderItem);
+        }
+        g.writeEndArray();
+    }
+
+    private static void writeAddress(JsonGenerator g, Address address) throws IOException {
+        if (address == null) {
+            g.writeNullField("address");
+            return;
+        }
+
+        g.writeObjectFieldStart("address");
+        g.writeStringField("city", address.getCity());
+        g.writeStringField("street", address.getStreet());
+        g.writeStringField("zipcode", address.getZipcode());
+        g.writeEndObject();
+    }
+
+    private static void writeDateTime(JsonGenerator g, String name, LocalDateTime value) throws IOException {
+        if (value == null) {
+            g.writeNullField(name);
+        } else {
+            g.writeStringField(name, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+
+    private static void writeEnum(JsonGenerator g, String name, Enum<?> value) throws IOException {
+        if (value == null) {
+            g.writeNullField(name);
+        } else {
+            g.writeStringField(name, value.name());
+        }
+    }
+
+    /**
+     * 응답 출력 스트림, 클라이언트가 gzip 을 받으면 압축 (acceptsGzip) <br>
+     * - Content-Length 를 지정하지 않으므로 chunked 로 전송 <br>
+     * - syncFlush : flush 할 때마다 압축된 데이터를 바로 내보냄
+     */
+    static OutputStream open(HttpServletRequest request, HttpServletResponse response, String contentType) throws IOException {
+        response.setContentType(contentType);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE, true);
+        }
+        return response.getOutputStream();
+    }
+
+    /**
+     * Accept-Encoding 에서 gzip 의 q 값이 0 보다 큰지 <br>
+     * - gzip 이 없으면 * 의 q 값을 따름, q 값이 없으면 1 <br>
+     * - 예) "gzip;q=0" -> false, "br, *;q=0.5" -> true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzip = null;
+        Double any = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = qValue(parts);
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return any != null && any > 0;
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0; // 잘못된 q 값은 받지 않는 것으로 처리
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,7 +1,10 @@
 package jpabook.jpashop.api;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jpabook.jpashop.domain.member.Address;
 import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.monitoring.QueryBudget;
 import jpabook.jpashop.repository.order.OrderRepository;
 import jpabook.jpashop.domain.order.OrderSearch;
 import jpabook.jpashop.domain.order.OrderStatus;
@@ -9,7 +12,9 @@ import jpabook.jpashop.dto.OrderSimpleQueryDTO;
 import jpabook.jpashop.repository.order.query.OrderSimpleQueryRepository;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
@@ -25,6 +30,7 @@ import static java.util.stream.Collectors.toList;
  * Order -> Delivery
  */
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class OrderSimpleApiController {
 
@@ -56,10 +62,26 @@ public class OrderSimpleApiController {
                 .collect(toList());
     }
 
+    /**
+     * v2. 커서(keyset) 페이징 <br><br>
+     * - after 파라미터가 있으면 주문 id 기준으로 다음 페이지 조회 (첫 페이지는 after=0) <br>
+     * - 지연로딩 N + 1 문제는 그대로, 페이지 크기만큼으로 제한됨
+     */
+    @GetMapping(value = "/api/v2/simple-orders", params = "after")
+    public CursorResult<List<SimpleOrderDTO>> ordersV2_cursor(@RequestParam("after") Long after,
+                                                              @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(CursorResult.MAX_LIMIT) int limit) {
+        List<SimpleOrderDTO> result = orderRepository.findAllAfter(after, limit).stream()
+                .map(SimpleOrderDTO::new)
+                .collect(toList());
+
+        return CursorResult.of(result, limit, SimpleOrderDTO::getOrderId);
+    }
+
     /**
      * v3. 엔티티를 조회해서 DTO로 변환(fetch join 사용O) <br><br>
      * - fetch join으로 쿼리 1번 호출
      */
+    @QueryBudget(1)
     @GetMapping("/api/v3/simple-orders")
     public List<SimpleOrderDTO> ordersV3() {
         List<Order> orders = orderRepository.findAllWithMemberDelivery();
@@ -74,6 +96,7 @@ public class OrderSimpleApiController {
      * - 쿼리1번 호출 <br>
      * - select 절에서 원하는 데이터만 선택해서 조회
      */
+    @QueryBudget(1)
     @GetMapping("/api/v4/simple-orders")
     public List<OrderSimpleQueryDTO> ordersV4() {
         return orderSimpleQueryRepository.findOrderDTOs();
@@ -86,6 +109,7 @@ public class OrderSimpleApiController {
         private LocalDateTime orderDate;
         private OrderStatus orderStatus;
         private Address address;
+        private int totalPrice;
 
         public SimpleOrderDTO(Order o) {
             orderId = o.getId();
@@ -93,6 +117,7 @@ public class OrderSimpleApiController {
             orderDate = o.getOrderDate();
             orderStatus = o.getStatus();
             address = o.getDelivery().getAddress(); // LAZY 초기화
+            totalPrice = o.getTotalPrice(); // 저장된 합계, orderItems 초기화X
         }
     }
 }
@@ -0,0 +1,23 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.outbox.OutboxStats;
+import jpabook.jpashop.repository.outbox.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * outbox 전송 통계 조회 (대기 건수, 지연, 처리량)
+ */
+@RestController
+@RequiredArgsConstructor
+public class OutboxStatsApiController {
+
+    private final OutboxStats outboxStats;
+    private final OutboxRepository outboxRepository;
+
+    @GetMapping("/api/outbox-stats")
+    public OutboxStats.OutboxStatsDTO outboxStats() {
+        return outboxStats.toDTO(outboxRepository.countPending(), outboxRepository.findOldestCreatedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.monitoring.QueryStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * SQL 실행 통계 조회 (엔드포인트별 요청당 쿼리 수, repository 메서드별 쿼리 수)
+ */
+@RestController
+@RequiredArgsConstructor
+public class QueryStatsApiController {
+
+    private final QueryStats queryStats;
+
+    @GetMapping("/api/query-stats")
+    public QueryStatsResponse queryStats() {
+        return new QueryStatsResponse(queryStats.getEndpoints(), queryStats.getRepositoryMethods());
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class QueryStatsResponse {
+        private Map<String, QueryStats.EndpointStatsDTO> endpoints;
+        private Map<String, Long> repositoryMethods;
+    }
+}
@@ -0,0 +1,61 @@
+package jpabook.jpashop.api;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jpabook.jpashop.dto.DailySalesDTO;
+import jpabook.jpashop.dto.ItemSalesDTO;
+import jpabook.jpashop.monitoring.QueryBudget;
+import jpabook.jpashop.service.SalesService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 판매 집계 조회 : 집계 테이블(item_daily_sales)만 읽으므로 주문 수와 관계없이 쿼리 1번
+ */
+@RestController
+@Validated
+@RequiredArgsConstructor
+public class SalesApiController {
+
+    public static final int MAX_TOP_ITEMS = 100;
+
+    private final SalesService salesService;
+
+    /**
+     * 기간 내 상위 상품 (sort = revenue | units) <br>
+     * - limit 은 1 ~ MAX_TOP_ITEMS
+     */
+    @QueryBudget(1)
+    @GetMapping("/api/sales/top-items")
+    public Result<List<ItemSalesDTO>> topItems(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                               @RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(MAX_TOP_ITEMS) int limit,
+                                               @RequestParam(value = "sort", defaultValue = "revenue") String sort) {
+        return new Result<>(salesService.findTopItems(from, to, limit, "units".equals(sort)));
+    }
+
+    /**
+     * 기간 내 일별 매출
+     */
+    @QueryBudget(1)
+    @GetMapping("/api/sales/daily")
+    public Result<List<DailySalesDTO>> dailySales(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new Result<>(salesService.findDailySales(from, to));
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Result<T> {
+        private T data;
+    }
+}
@@ -0,0 +1,64 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.service.AggregateVersions;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
+import jpabook.jpashop.service.AggregateVersions.Version;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회되고 드물게 바뀌는 목록 API 의 조건부 GET + 응답 본문 캐시 <br><br>
+ *
+ * - If-None-Match / If-Modified-Since 가 현재 버전과 같으면 304 (DB 조회X, 직렬화X) <br>
+ * - 다르면 같은 버전으로 직렬화해 둔 본문을 그대로 반환, 버전이 바뀐 뒤 첫 요청만 조회 + 직렬화 <br>
+ * - 캐시는 API 마다 최신 버전 본문 1개
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionedResponseCache {
+
+    private final AggregateVersions aggregateVersions;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * @return 304 이면 null (응답은 WebRequest.checkNotModified 에서 처리됨)
+     */
+    public ResponseEntity<byte[]> respond(String key, Aggregate aggregate, WebRequest request, Supplier<?> body) {
+        Version version = aggregateVersions.get(aggregate);
+        if (request.checkNotModified(aggregateVersions.etag(aggregate, version), version.lastModified())) {
+            return null;
+        }
+
+        CachedBody cached = bodies.get(key);
+        if (cached == null || cached.version != version.number()) {
+            cached = new CachedBody(version.number(), serialize(body.get()));
+            bodies.merge(key, cached, (old, built) -> old.version > built.version ? old : built); // 늦게 끝난 이전 버전이 덮어쓰지 않도록
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 JSON 으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedBody(long version, byte[] body) {
+    }
+}
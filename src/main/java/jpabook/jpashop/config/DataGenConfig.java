@@ -0,0 +1,29 @@
+package jpabook.jpashop.config;
+
+import jpabook.jpashop.datagen.DataGenSpec;
+import jpabook.jpashop.datagen.DataGenerator;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * datagen 프로필로 실행하면 기동 시 테스트 데이터 생성 (InitDB 대신) <br>
+ * - 규모는 jpashop.datagen.* 로 지정 (ex. --jpashop.datagen.orders=1000000)
+ */
+@Configuration
+@Profile("datagen")
+public class DataGenConfig {
+
+    @Bean
+    @ConfigurationProperties("jpashop.datagen")
+    public DataGenSpec dataGenSpec() {
+        return new DataGenSpec();
+    }
+
+    @Bean
+    public ApplicationRunner dataGenRunner(DataGenerator dataGenerator, DataGenSpec dataGenSpec) {
+        return args -> dataGenerator.generate(dataGenSpec);
+    }
+}
@@ -0,0 +1,15 @@
+package jpabook.jpashop.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 (OutboxRelay, SalesRollupJob) <br>
+ * - jpashop.scheduling.enabled=false 면 주기 실행을 하지 않음 (relay(), rollup() 직접 호출)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "jpashop.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -4,6 +4,9 @@ import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.dto.BookForm;
 import jpabook.jpashop.dto.UpdateItemDTO;
+import jpabook.jpashop.service.AggregateVersions;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
+import jpabook.jpashop.service.AggregateVersions.Version;
 import jpabook.jpashop.service.ItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,6 +24,7 @@ import java.util.List;
 public class ItemController {
 
     private final ItemService itemService;
+    private final AggregateVersions aggregateVersions;
 
     @GetMapping("items/new")
     public String createForm(Model model) {
@@ -41,8 +46,16 @@ public class ItemController {
         return "redirect:/";
     }
 
+    /**
+     * 상품 목록 : 상품 버전이 같으면 304 (DB 조회X, 렌더링X)
+     */
     @GetMapping("/items")
-    public String list(Model model) {
+    public String list(Model model, WebRequest request) {
+        Version version = aggregateVersions.get(Aggregate.ITEM);
+        if (request.checkNotModified(aggregateVersions.etag(Aggregate.ITEM, version), version.lastModified())) {
+            return null;
+        }
+
         List<Item> items = itemService.findItems();
         model.addAttribute("items", items);
         return "items/itemList";
@@ -0,0 +1,17 @@
+package jpabook.jpashop.datagen;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class DataGenResult {
+    private final int members;
+    private final int items;
+    private final int categories;
+    private final int orders;
+    private final long orderItems;
+    private final long elapsedMillis;
+}
@@ -0,0 +1,33 @@
+package jpabook.jpashop.datagen;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 생성할 데이터 규모 (jpashop.datagen.*) <br>
+ * - 기본값은 로컬 확인용 소량
+ */
+@Getter
+@Setter
+public class DataGenSpec {
+
+    private int members = 1_000;
+
+    private int books = 300;
+    private int albums = 100;
+    private int movies = 100;
+    private int itemStock = 1_000_000; // 주문해도 재고를 차감하지 않으므로 넉넉하게
+
+    private int categoryDepth = 3; // 루트 포함 단계 수
+    private int categoryFanout = 4; // 카테고리당 하위 카테고리 수
+
+    private int orders = 10_000;
+    private int linesPerOrder = 3; // 주문당 주문상품 수 (1 ~ linesPerOrder 균등 분포)
+    private int orderDays = 30; // 주문일을 최근 며칠에 나누어 분포
+    private double hotItemSkew = 1.0; // 상품 선택 Zipf 지수, 0 이면 균등, 클수록 소수 상품에 주문이 몰림
+
+    private int partitions = Runtime.getRuntime().availableProcessors(); // 병렬로 insert 할 스레드 수
+    private int flushInterval = 1_000; // 주문 flush / clear 간격
+    private int commitInterval = 20_000; // 주문 커밋 간격
+    private long seed = 42; // 같은 seed 면 같은 분포
+}
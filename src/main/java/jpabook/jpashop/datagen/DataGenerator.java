@@ -0,0 +1,293 @@
+package jpabook.jpashop.datagen;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Album;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Category;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.item.Movie;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.DeliveryStatus;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import jpabook.jpashop.domain.sales.SalesDelta;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.service.AggregateVersions;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
+import jpabook.jpashop.service.CategoryTreeCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 대량 테스트 데이터 생성 (회원, 카테고리 트리, 상품, 주문) <br><br>
+ *
+ * - 회원, 주문은 partitions 개 스레드가 범위를 나누어 병렬로 insert <br>
+ * - JDBC 배치 insert (hibernate.jdbc.batch_size) + flushInterval 마다 flush / clear, commitInterval 마다 커밋 <br>
+ * - 주문은 서비스를 거치지 않고 직접 저장 : 재고 차감X, outbox 이벤트X, 판매 집계는 증감(SalesDelta)만 파티션별로 합산해서 기록 <br>
+ * - 상품은 hotItemSkew 에 따라 일부 상품에 주문이 몰림 (인기 상품은 상품 유형과 무관하게 섞음) <br>
+ * - 카테고리, 상품은 트랜잭션 1개로 생성 (상품 수는 주문 수보다 훨씬 적다고 가정)
+ */
+@Slf4j
+@Component
+public class DataGenerator {
+
+    private final EntityManager em;
+    private final MemberRepository memberRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final AggregateVersions aggregateVersions;
+    private final TransactionTemplate tx;
+
+    public DataGenerator(EntityManager em,
+                         MemberRepository memberRepository,
+                         CategoryTreeCache categoryTreeCache,
+                         AggregateVersions aggregateVersions,
+                         PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.memberRepository = memberRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.aggregateVersions = aggregateVersions;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    public DataGenResult generate(DataGenSpec spec) {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(spec.getPartitions());
+
+        try {
+            List<Long> memberIds = inPartitions(spec.getMembers(), spec, executor,
+                    p -> createMembers(p.from, p.to, spec));
+
+            List<Category> leaves = new ArrayList<>();
+            List<CatalogItem> items = tx.execute(status -> createCatalog(spec, leaves));
+
+            List<Long> orderItemCounts = spec.getMembers() == 0 || items.isEmpty() ? List.of() :
+                    inPartitions(spec.getOrders(), spec, executor,
+                            p -> List.of(createOrders(p, spec, memberIds, items)));
+            long orderItems = orderItemCounts.stream().mapToLong(Long::longValue).sum();
+
+            categoryTreeCache.invalidate();
+            aggregateVersions.bumpAfterCommit(Aggregate.ITEM);
+            aggregateVersions.bumpAfterCommit(Aggregate.MEMBER);
+
+            DataGenResult result = new DataGenResult(memberIds.size(), items.size(), countCategories(spec),
+                    orderItemCounts.isEmpty() ? 0 : spec.getOrders(), orderItems,
+                    (System.nanoTime() - start) / 1_000_000);
+            log.info("테스트 데이터 생성 완료 : {}", result);
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * [0, total) 를 partitions 개 범위로 나누어 병렬 실행, 결과는 범위 순서대로 합침
+     */
+    private <T> List<T> inPartitions(int total, DataGenSpec spec, ExecutorService executor, Function<Partition, List<T>> task) {
+        int partitions = Math.max(1, Math.min(spec.getPartitions(), total));
+        int size = (total + partitions - 1) / partitions;
+
+        List<CompletableFuture<List<T>>> futures = IntStream.range(0, partitions)
+                .mapToObj(p -> new Partition(p, p * size, Math.min(total, (p + 1) * size)))
+                .filter(p -> p.from < p.to)
+                .map(p -> CompletableFuture.supplyAsync(() -> task.apply(p), executor))
+                .collect(Collectors.toList());
+
+        return futures.stream()
+                .flatMap(f -> f.join().stream())
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> createMembers(int from, int to, DataGenSpec spec) {
+        List<Long> ids = new ArrayList<>(to - from);
+
+        for (int chunkFrom = from; chunkFrom < to; chunkFrom += spec.getCommitInterval()) {
+            int chunkTo = Math.min(to, chunkFrom + spec.getCommitInterval());
+            int begin = chunkFrom;
+
+            tx.executeWithoutResult(status -> {
+                for (int i = begin; i < chunkTo; i++) {
+                    Member member = new Member();
+                    member.setName("member" + i);
+                    member.setAddress(new Address("city" + (i % 100), "street" + i, String.format("%05d", i % 100_000)));
+                    em.persist(member);
+                    ids.add(member.getId());
+
+                    if ((i - begin + 1) % spec.getFlushInterval() == 0) {
+                        em.flush();
+                        em.clear();
+                    }
+                }
+            });
+        }
+        return ids;
+    }
+
+    /**
+     * 카테고리 트리, 상품 생성, 상품은 말단 카테고리에 번갈아 배정 <br>
+     * @return 인기 순서로 섞은 상품 (앞쪽일수록 많이 주문됨)
+     */
+    private List<CatalogItem> createCatalog(DataGenSpec spec, List<Category> leaves) {
+        createCategories(null, "", 1, spec, leaves);
+
+        List<CatalogItem> items = new ArrayList<>();
+        int total = spec.getBooks() + spec.getAlbums() + spec.getMovies();
+        for (int i = 0; i < total; i++) {
+            Item item = createItem(i, spec);
+            item.setPrice(1_000 + (i % 100) * 500);
+            item.setStockQuantity(spec.getItemStock());
+            em.persist(item);
+
+            if (!leaves.isEmpty()) {
+                leaves.get(i % leaves.size()).addItem(item);
+            }
+            items.add(new CatalogItem(item.getId(), item.getPrice()));
+        }
+
+        Collections.shuffle(items, new Random(spec.getSeed()));
+        return items;
+    }
+
+    private void createCategories(Category parent, String prefix, int depth, DataGenSpec spec, List<Category> leaves) {
+        if (depth > spec.getCategoryDepth()) {
+            return;
+        }
+
+        int count = parent == null ? 1 : spec.getCategoryFanout();
+        for (int i = 0; i < count; i++) {
+            Category category = new Category();
+            category.setName(parent == null ? "전체" : "category" + prefix + i);
+            if (parent != null) {
+                parent.addChildCategory(category);
+            }
+            em.persist(category);
+            category.assignPath();
+
+            if (depth == spec.getCategoryDepth()) {
+                leaves.add(category);
+            }
+            createCategories(category, prefix + i + "-", depth + 1, spec, leaves);
+        }
+    }
+
+    private Item createItem(int i, DataGenSpec spec) {
+        if (i < spec.getBooks()) {
+            Book book = new Book();
+            book.setName("book" + i);
+            book.setAuthor("author" + (i % 50));
+            book.setIsbn(String.format("isbn-%08d", i));
+            return book;
+        }
+        if (i < spec.getBooks() + spec.getAlbums()) {
+            Album album = new Album();
+            album.setName("album" + i);
+            album.setArtist("artist" + (i % 50));
+            return album;
+        }
+        Movie movie = new Movie();
+        movie.setName("movie" + i);
+        movie.setDirector("director" + (i % 50));
+        return movie;
+    }
+
+    /**
+     * 파티션 범위의 주문 생성 <br>
+     * - flushInterval 마다 그 구간에서 쓸 회원을 IN 쿼리 1번으로 조회 (주문마다 회원 조회X) <br>
+     * - 상품은 프록시로 참조 (조회X)
+     * @return 생성한 주문상품 수
+     */
+    private long createOrders(Partition partition, DataGenSpec spec, List<Long> memberIds, List<CatalogItem> items) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() + partition.index);
+        ZipfSampler itemSampler = new ZipfSampler(items.size(), spec.getHotItemSkew());
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Map<LocalDate, long[]>> sales = new HashMap<>();
+        long[] orderItems = {0};
+
+        for (int chunkFrom = partition.from; chunkFrom < partition.to; chunkFrom += spec.getCommitInterval()) {
+            int chunkTo = Math.min(partition.to, chunkFrom + spec.getCommitInterval());
+            int begin = chunkFrom;
+
+            tx.executeWithoutResult(status -> {
+                for (int windowFrom = begin; windowFrom < chunkTo; windowFrom += spec.getFlushInterval()) {
+                    int windowSize = Math.min(spec.getFlushInterval(), chunkTo - windowFrom);
+
+                    List<Long> windowMemberIds = IntStream.range(0, windowSize)
+                            .mapToObj(i -> memberIds.get(random.nextInt(memberIds.size())))
+                            .collect(Collectors.toList());
+                    Map<Long, Member> memberMap = memberRepository.findAllByIds(windowMemberIds).stream()
+                            .collect(Collectors.toMap(Member::getId, m -> m));
+
+                    for (Long memberId : windowMemberIds) {
+                        Member member = memberMap.get(memberId);
+                        LocalDateTime orderDate = now.minusSeconds(random.nextLong(Math.max(1, spec.getOrderDays()) * 86_400L));
+
+                        int lines = 1 + random.nextInt(Math.max(1, spec.getLinesPerOrder()));
+                        OrderItem[] lineItems = new OrderItem[lines];
+                        for (int j = 0; j < lines; j++) {
+                            CatalogItem item = items.get(itemSampler.sample(random));
+                            int count = 1 + random.nextInt(3);
+                            lineItems[j] = OrderItem.createReservedOrderItem(em.getReference(Item.class, item.id), item.price, count);
+
+                            long[] sum = sales.computeIfAbsent(item.id, k -> new HashMap<>())
+                                    .computeIfAbsent(orderDate.toLocalDate(), k -> new long[2]);
+                            sum[0] += count;
+                            sum[1] += (long) item.price * count;
+                        }
+                        orderItems[0] += lines;
+
+                        Delivery delivery = new Delivery();
+                        delivery.setAddress(member.getAddress());
+                        delivery.setStatus(DeliveryStatus.READY);
+
+                        Order order = Order.createOrder(member, delivery, lineItems);
+                        order.setOrderDate(orderDate);
+                        em.persist(order);
+                    }
+
+                    em.flush();
+                    em.clear();
+                }
+            });
+        }
+
+        tx.executeWithoutResult(status -> sales.forEach((itemId, byDay) -> byDay.forEach((day, sum) ->
+                em.persist(SalesDelta.createDelta(itemId, day, sum[0], sum[1])))));
+
+        return orderItems[0];
+    }
+
+    private int countCategories(DataGenSpec spec) {
+        int count = 0;
+        int level = 1;
+        for (int depth = 1; depth <= spec.getCategoryDepth(); depth++) {
+            count += level;
+            level *= spec.getCategoryFanout();
+        }
+        return count;
+    }
+
+    private record Partition(int index, int from, int to) {
+    }
+
+    private record CatalogItem(Long id, int price) {
+    }
+}
@@ -3,6 +3,8 @@ package jpabook.jpashop.domain.item;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +12,8 @@ import java.util.List;
 import static jakarta.persistence.FetchType.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_category_path", columnList = "path"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @Getter @Setter
 public class Category {
 
@@ -20,7 +24,9 @@ public class Category {
 
     private String name;
 
-    @ManyToMany
+    private String path; // 루트부터 자기 자신까지의 id 경로, 예) /1/5/12/ -> 하위 카테고리 = path like '/1/5/%'
+
+    @ManyToMany // 컬렉션 캐시X : Item 은 2차 캐시 대상이 아니므로 id 만 캐시되고 상품마다 select 1번 (N + 1)
     @JoinTable(name = "category_item",
                joinColumns = @JoinColumn(name = "category_id"),
                inverseJoinColumns = @JoinColumn(name = "item_id"))
@@ -31,6 +37,7 @@ public class Category {
     private Category parent;
 
     @OneToMany(mappedBy = "parent")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
     private List<Category> child = new ArrayList<>();
 
     //== 연관관계 편의 메서드 ==//
@@ -38,4 +45,18 @@ public class Category {
         this.child.add(child);
         child.setParent(this);
     }
+
+    public void addItem(Item item) {
+        this.items.add(item);
+        item.getCategories().add(this);
+    }
+
+    //== 비즈니스 로직 ==//
+    /**
+     * 경로 지정 <br>
+     * - id 가 필요하므로 persist 이후에 호출
+     */
+    public void assignPath() {
+        this.path = (parent == null ? "/" : parent.getPath()) + id + "/";
+    }
 }
@@ -5,12 +5,19 @@ import jpabook.jpashop.dto.UpdateItemDTO;
 import jpabook.jpashop.exception.NotEnoughStockException;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static jakarta.persistence.InheritanceType.*;
 
+/**
+ * 상품 <br>
+ * - 2차 캐시X : 주문마다 재고를 update 쿼리(ItemRepository.removeStock)로 바꾸는데, 벌크 update 는 item 영역 전체와 쿼리 캐시를 비우므로 캐시가 유지되지 않음 <br>
+ * - 상품과 카테고리 사이의 컬렉션(categories, Category.items)도 캐시하지 않음
+ */
 @Entity
 @Inheritance(strategy = SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
@@ -27,27 +34,125 @@ public abstract class Item {
     private int price;
     private int stockQuantity;
 
+    private int stockShardCount; // 재고 분할 버킷 수, 0 이면 stockQuantity 에 재고 저장
+
     @ManyToMany(mappedBy = "items")
     private List<Category> categories = new ArrayList<>();
 
+    @OneToMany(mappedBy = "item", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
+    private List<ItemStockShard> stockShards = new ArrayList<>();
+
+    /**
+     * 재고 수량 조회 <br>
+     * - 재고가 분할된 상품은 버킷 재고의 합
+     */
+    public int getStockQuantity() {
+        if (!isStockSharded()) {
+            return stockQuantity;
+        }
+
+        return stockShards.stream()
+                .mapToInt(ItemStockShard::getStockQuantity)
+                .sum();
+    }
+
+    public boolean isStockSharded() {
+        return stockShardCount > 0;
+    }
+
     //== 비즈니스 로직 ==//
+    /**
+     * 재고 증가 (엔티티 변경) <br>
+     * - 재고가 분할된 상품은 0번 버킷에 추가 (ItemRepository.addStock 과 같음)
+     */
     public void addStock(int quantity) {
-        this.stockQuantity += quantity;
+        checkQuantity(quantity);
+
+        if (!isStockSharded()) {
+            this.stockQuantity += quantity;
+            return;
+        }
+
+        ItemStockShard first = stockShards.stream()
+                .filter(shard -> shard.getBucket() == 0)
+                .findFirst()
+                .orElseThrow();
+        first.setStockQuantity(first.getStockQuantity() + quantity);
     }
 
+    /**
+     * 재고 차감 (엔티티 변경) <br>
+     * - 재고가 분할된 상품은 버킷 재고 합계로 확인하고 앞 버킷부터 차감
+     */
     public void removeStock(int quantity) {
-        int restStock = this.stockQuantity - quantity;
+        checkQuantity(quantity);
+
+        int restStock = getStockQuantity() - quantity;
 
         if (restStock < 0) {
             throw new NotEnoughStockException("need not stock");
         }
 
-        this.stockQuantity = restStock;
+        if (!isStockSharded()) {
+            this.stockQuantity = restStock;
+            return;
+        }
+
+        int remaining = quantity;
+        for (ItemStockShard shard : stockShards.stream()
+                .sorted(Comparator.comparingInt(ItemStockShard::getBucket))
+                .toList()) {
+            int take = Math.min(shard.getStockQuantity(), remaining);
+            shard.setStockQuantity(shard.getStockQuantity() - take);
+            remaining -= take;
+        }
     }
 
     public void changeItem(UpdateItemDTO itemDTO) {
         this.name = itemDTO.getName();
         this.price = itemDTO.getPrice();
-        this.stockQuantity = itemDTO.getStockQuantity();
+
+        if (isStockSharded()) {
+            spreadStock(itemDTO.getStockQuantity());
+        } else {
+            this.stockQuantity = itemDTO.getStockQuantity();
+        }
+    }
+
+    /**
+     * 재고 분할 : 현재 재고를 shardCount 개의 버킷에 나누어 담음
+     */
+    public void shardStock(int shardCount) {
+        if (isStockSharded()) {
+            throw new IllegalStateException("이미 재고가 분할된 상품입니다.");
+        }
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("버킷 수는 1 이상이어야 합니다.");
+        }
+
+        for (int bucket = 0; bucket < shardCount; bucket++) {
+            ItemStockShard.createShard(this, bucket);
+        }
+        this.stockShardCount = shardCount;
+
+        spreadStock(this.stockQuantity);
+    }
+
+    private static void checkQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다. quantity=" + quantity);
+        }
+    }
+
+    private void spreadStock(int totalQuantity) {
+        int shardCount = stockShards.size();
+
+        for (ItemStockShard shard : stockShards) {
+            int extra = shard.getBucket() < totalQuantity % shardCount ? 1 : 0;
+            shard.setStockQuantity(totalQuantity / shardCount + extra);
+        }
+
+        this.stockQuantity = 0;
     }
 }
@@ -0,0 +1,45 @@
+package jpabook.jpashop.domain.item;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import static jakarta.persistence.FetchType.*;
+
+/**
+ * 상품 재고 분할 저장 (item_stock_shard) <br><br>
+ *
+ * - 주문이 몰리는 상품의 재고를 N개 버킷 row 로 나누어 한 row 에 락이 몰리지 않게 함 <br>
+ * - 상품의 전체 재고 = 버킷 재고의 합
+ */
+@Entity
+@Table(name = "item_stock_shard",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "bucket"}))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemStockShard {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "item_stock_shard_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "item_id")
+    private Item item;
+
+    private int bucket;
+    private int stockQuantity;
+
+    //== 생성 메서드 ==//
+    public static ItemStockShard createShard(Item item, int bucket) {
+        ItemStockShard shard = new ItemStockShard();
+        shard.setItem(item);
+        shard.setBucket(bucket);
+        item.getStockShards().add(shard);
+        return shard;
+    }
+}
@@ -13,7 +13,8 @@ import static jakarta.persistence.FetchType.*;
 public class Delivery {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delivery_seq_generator")
+    @SequenceGenerator(name = "delivery_seq_generator", sequenceName = "delivery_seq", allocationSize = 100)
     @Column(name = "delivery_id")
     private Long id;
 
@@ -6,22 +6,29 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import static jakarta.persistence.FetchType.*;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status", columnList = "status"),
+        @Index(name = "idx_orders_order_date", columnList = "order_date"),
+        @Index(name = "idx_orders_member_order_date", columnList = "member_id, order_date desc, order_id desc") // 회원별 주문 내역 (최신순)
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq_generator")
+    @SequenceGenerator(name = "order_seq_generator", sequenceName = "orders_seq", allocationSize = 100)
     @Column(name = "order_id")
     private Long id;
 
@@ -36,11 +43,21 @@ public class Order {
     @JoinColumn(name = "delivery_id")
     private Delivery delivery;
 
+    @Column(name = "order_date")
     private LocalDateTime orderDate;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status; // 주문 상태 [ORDER, CANCEL]
 
+    // 컬럼 추가 전 주문은 기본값 0 -> OrderTotalBackfillJob 으로 보정
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int totalPrice; // 주문 금액 합계, 주문상품 추가 시 갱신 (목록 조회 시 order_item 조회X)
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int itemCount; // 주문 수량 합계
+
     //== 연관관계 편의 메서드 ==//
     public void setMember(Member member) {
         this.member = member;
@@ -50,6 +67,9 @@ public class Order {
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
+
+        this.totalPrice += orderItem.getTotalPrice();
+        this.itemCount += orderItem.getCount();
     }
 
     public void setDelivery(Delivery delivery) {
@@ -74,27 +94,32 @@ public class Order {
 
     //== 비즈니스 로직 ==//
     /**
-     * 주문 취소
+     * 주문 취소 <br>
+     * - 재고는 엔티티가 아니라 DB 에서 update 로 복구하므로 복구 방법을 받아서 주문상품마다 호출 (ex. ItemRepository::addStock) <br>
+     * - 재고 복구 없이 상태만 바꿀 수 없음 <br>
+     * - 주문상품은 그대로 남으므로 totalPrice, itemCount 도 취소된 주문의 금액, 수량으로 유지
+     * @param stockRestorer (상품 id, 수량) 재고 복구
      */
-    public void cancel() {
+    public void cancel(BiConsumer<Long, Integer> stockRestorer) {
+        if (status == OrderStatus.CANCEL) {
+            throw new IllegalStateException("이미 취소된 주문입니다.");
+        }
         if (delivery.getStatus() == DeliveryStatus.COMP) {
             throw new IllegalStateException("이미 배송 완료된 상품은 취소가 불가능합니다.");
         }
 
         this.setStatus(OrderStatus.CANCEL);
-
         for (OrderItem orderItem : orderItems) {
-            orderItem.cancel();
+            stockRestorer.accept(orderItem.getItem().getId(), orderItem.getCount());
         }
     }
 
     //== 조회 로직 ==//
     /**
-     * 전체 주문 가격 조회
+     * 전체 주문 가격 조회 <br>
+     * - 저장된 합계를 반환하므로 orderItems 를 초기화하지 않음
      */
     public int getTotalPrice() {
-        return orderItems.stream()
-                .mapToInt(OrderItem::getTotalPrice)
-                .sum();
+        return totalPrice;
     }
 }
@@ -16,7 +16,8 @@ import static jakarta.persistence.FetchType.*;
 public class OrderItem {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq_generator")
+    @SequenceGenerator(name = "order_item_seq_generator", sequenceName = "order_item_seq", allocationSize = 100)
     @Column(name = "order_item_id")
     private Long id;
 
@@ -42,9 +43,15 @@ public class OrderItem {
         return orderItem;
     }
 
-    //== 비즈니스 로직 ==//
-    public void cancel() {
-        getItem().addStock(count);
+    /**
+     * 재고가 이미 차감된 경우 (ItemRepository.removeStock) 사용
+     */
+    public static OrderItem createReservedOrderItem(Item item, int orderPrice, int count) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setItem(item);
+        orderItem.setOrderPrice(orderPrice);
+        orderItem.setCount(count);
+        return orderItem;
     }
 
     //== 조회 로직 ==//
@@ -1,12 +1,42 @@
 package jpabook.jpashop.domain.order;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @Getter
 @Setter
 public class OrderSearch {
 
+    public static final int MAX_SIZE = 1000;
+
     private String memberName;
     private OrderStatus orderStatus;
+    private NameMatch nameMatch = NameMatch.PREFIX;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate orderDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate orderDateTo; // 해당 일자 포함
+
+    private Long itemId; // 해당 상품을 포함한 주문
+    private Integer minTotalPrice; // 주문 금액 하한
+
+    @Min(0)
+    private int page = 0;
+    @Min(1) @Max(MAX_SIZE)
+    private int size = MAX_SIZE;
+
+    /**
+     * 회원 이름 검색 방식 <br>
+     * - PREFIX : name% (member.name 인덱스 사용) <br>
+     * - CONTAINS : %name% (메모리 2-gram 인덱스로 후보 회원을 먼저 좁힘)
+     */
+    public enum NameMatch {
+        PREFIX, CONTAINS
+    }
 }
@@ -0,0 +1,49 @@
+package jpabook.jpashop.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 시스템(배송, 정산)에 보낼 이벤트 (outbox_event) <br><br>
+ *
+ * - 주문과 같은 트랜잭션에서 insert -> 주문이 커밋되면 이벤트도 반드시 남음 <br>
+ * - 전송은 OutboxRelay 가 별도 스레드에서 묶어서 처리, 전송 후 삭제
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq_generator")
+    @SequenceGenerator(name = "outbox_seq_generator", sequenceName = "outbox_event_seq", allocationSize = 100)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    private String aggregateType; // 예) Order
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Lob
+    private String payload; // JSON
+
+    private LocalDateTime createdAt;
+
+    //== 생성 메서드 ==//
+    public static OutboxEvent createEvent(String aggregateType, Long aggregateId, OutboxEventType eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.aggregateType = aggregateType;
+        event.aggregateId = aggregateId;
+        event.eventType = eventType;
+        event.payload = payload;
+        event.createdAt = LocalDateTime.now();
+        return event;
+    }
+}
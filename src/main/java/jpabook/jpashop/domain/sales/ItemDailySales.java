@@ -0,0 +1,51 @@
+package jpabook.jpashop.domain.sales;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일별 판매 집계 (item_daily_sales) <br><br>
+ *
+ * - 상품, 일자마다 row 1개 -> 조회 비용이 주문 수가 아닌 (상품 수 x 일 수)에 비례 <br>
+ * - SalesRollupJob 만 갱신
+ */
+@Entity
+@Table(name = "item_daily_sales",
+       uniqueConstraints = @UniqueConstraint(name = "uk_item_daily_sales", columnNames = {"item_id", "sales_day"}),
+       indexes = @Index(name = "idx_item_daily_sales_day", columnList = "sales_day"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemDailySales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_daily_sales_seq_generator")
+    @SequenceGenerator(name = "item_daily_sales_seq_generator", sequenceName = "item_daily_sales_seq", allocationSize = 100)
+    @Column(name = "item_daily_sales_id")
+    private Long id;
+
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "sales_day")
+    private LocalDate day;
+    private long units; // 판매 수량
+    private long revenue; // 매출 (주문 가격 x 수량)
+
+    //== 생성 메서드 ==//
+    public static ItemDailySales createSales(Long itemId, LocalDate day) {
+        ItemDailySales sales = new ItemDailySales();
+        sales.itemId = itemId;
+        sales.day = day;
+        return sales;
+    }
+
+    //== 비즈니스 로직 ==//
+    public void add(long units, long revenue) {
+        this.units += units;
+        this.revenue += revenue;
+    }
+}
@@ -0,0 +1,46 @@
+package jpabook.jpashop.domain.sales;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 아직 집계에 반영되지 않은 판매 증감 (sales_delta) <br><br>
+ *
+ * - 주문, 취소 트랜잭션에서 insert 만 함 -> 같은 상품을 동시에 주문해도 집계 row 에 락이 몰리지 않음 <br>
+ * - SalesRollupJob 이 모아서 ItemDailySales 에 더하고 삭제 <br>
+ * - 취소는 음수 (주문일 기준으로 차감)
+ */
+@Entity
+@Table(name = "sales_delta")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_delta_seq_generator")
+    @SequenceGenerator(name = "sales_delta_seq_generator", sequenceName = "sales_delta_seq", allocationSize = 100)
+    @Column(name = "sales_delta_id")
+    private Long id;
+
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "sales_day")
+    private LocalDate day;
+    private long units;
+    private long revenue;
+
+    //== 생성 메서드 ==//
+    public static SalesDelta createDelta(Long itemId, LocalDate day, long units, long revenue) {
+        SalesDelta delta = new SalesDelta();
+        delta.itemId = itemId;
+        delta.day = day;
+        delta.units = units;
+        delta.revenue = revenue;
+        return delta;
+    }
+}
@@ -0,0 +1,25 @@
+package jpabook.jpashop.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderDTO {
+
+    @NotNull
+    private Long memberId;
+
+    @NotEmpty
+    @Valid
+    private List<OrderLineDTO> orderLines;
+}
@@ -0,0 +1,23 @@
+package jpabook.jpashop.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카테고리 트리 노드 (CategoryTreeCache)
+ */
+@Getter
+public class CategoryNode {
+    private final Long id;
+    private final String name;
+    private final String path;
+    private final List<CategoryNode> children = new ArrayList<>();
+
+    public CategoryNode(Long id, String name, String path) {
+        this.id = id;
+        this.name = name;
+        this.path = path;
+    }
+}
@@ -0,0 +1,18 @@
+package jpabook.jpashop.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class DailySalesDTO {
+    private LocalDate day;
+    private long units;
+    private long revenue;
+
+    public DailySalesDTO(LocalDate day, Long units, Long revenue) {
+        this.day = day;
+        this.units = units;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,18 @@
+package jpabook.jpashop.dto;
+
+import lombok.Data;
+
+@Data
+public class ItemSalesDTO {
+    private Long itemId;
+    private String name;
+    private long units;
+    private long revenue;
+
+    public ItemSalesDTO(Long itemId, String name, Long units, Long revenue) {
+        this.itemId = itemId;
+        this.name = name;
+        this.units = units;
+        this.revenue = revenue;
+    }
+}
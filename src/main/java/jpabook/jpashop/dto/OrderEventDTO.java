@@ -0,0 +1,56 @@
+package jpabook.jpashop.dto;
+
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 이벤트 내용 (outbox payload)
+ */
+@Data
+public class OrderEventDTO {
+    private Long orderId;
+    private Long memberId;
+    private OrderStatus status;
+    private LocalDateTime orderDate;
+    private int totalPrice;
+    private int itemCount;
+    private List<OrderLine> orderLines;
+
+    public OrderEventDTO(Order order) {
+        orderId = order.getId();
+        memberId = order.getMember().getId();
+        status = order.getStatus();
+        orderDate = order.getOrderDate();
+        totalPrice = order.getTotalPrice();
+        itemCount = order.getItemCount();
+        orderLines = order.getOrderItems().stream()
+                .map(oi -> new OrderLine(oi.getItem().getId(), oi.getOrderPrice(), oi.getCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주문을 조회하지 않고 만들 때 (OrderRepository.findOrderEvents), 주문상품은 orderLines 에 추가
+     */
+    public OrderEventDTO(Long orderId, Long memberId, OrderStatus status, LocalDateTime orderDate, int totalPrice, int itemCount) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.status = status;
+        this.orderDate = orderDate;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+        this.orderLines = new ArrayList<>();
+    }
+
+    @Data
+    public static class OrderLine {
+        private final Long itemId;
+        private final int orderPrice;
+        private final int count;
+    }
+}
@@ -0,0 +1,21 @@
+package jpabook.jpashop.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineDTO {
+
+    @NotNull
+    private Long itemId;
+
+    @Positive
+    private int count;
+}
@@ -0,0 +1,117 @@
+package jpabook.jpashop.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate 이벤트를 메서드별로 집계 (전체 합계는 hibernate-micrometer 의 hibernate.* 지표) <br><br>
+ *
+ * - jpashop.hibernate.entities.loaded : 엔티티 로딩 수 (method, entity 태그) <br>
+ * - jpashop.hibernate.collections.fetched : 컬렉션 초기화 수 (method, role 태그) <br>
+ * - jpashop.hibernate.flush : 명시적 / 커밋 시 flush 시간, jpashop.hibernate.auto-flush : 쿼리 전 실제로 flush 된 횟수 <br>
+ * - method 태그 : 실행 중인 repository 메서드, 없으면 service 메서드 (지연 로딩, 커밋 시 flush), 둘 다 없으면 none <br>
+ * - 이벤트마다 builder 로 등록하지 않도록 태그 조합별 meter 를 Map 에 보관
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateEventMetrics {
+
+    private static final ThreadLocal<Timer.Sample> FLUSH = new ThreadLocal<>();
+
+    private final EntityManagerFactory emf;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<MeterKey, Counter> entitiesLoaded = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> collectionsFetched = new ConcurrentHashMap<>();
+    private final Map<String, Timer> flushTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> autoFlushes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event ->
+                entitiesLoaded.computeIfAbsent(new MeterKey(currentMethod(), event.getPersister().getEntityName()), key ->
+                        Counter.builder("jpashop.hibernate.entities.loaded")
+                                .tag("method", key.method())
+                                .tag("entity", simpleName(key.name()))
+                                .register(meterRegistry))
+                        .increment());
+
+        registry.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event ->
+                collectionsFetched.computeIfAbsent(new MeterKey(currentMethod(), String.valueOf(event.getCollection().getRole())), key ->
+                        Counter.builder("jpashop.hibernate.collections.fetched")
+                                .tag("method", key.method())
+                                .tag("role", "null".equals(key.name()) ? "unknown" : shortRole(key.name()))
+                                .register(meterRegistry))
+                        .increment());
+
+        // 기본 flush 리스너 앞뒤에 등록해서 flush 시간 측정
+        registry.prependListeners(EventType.FLUSH, (FlushEventListener) event -> FLUSH.set(Timer.start(meterRegistry)));
+        registry.appendListeners(EventType.FLUSH, (FlushEventListener) event -> {
+            Timer.Sample sample = FLUSH.get();
+            FLUSH.remove();
+            if (sample != null) {
+                sample.stop(flushTimers.computeIfAbsent(currentMethod(), method ->
+                        Timer.builder("jpashop.hibernate.flush")
+                                .tag("method", method)
+                                .register(meterRegistry)));
+            }
+        });
+
+        registry.appendListeners(EventType.AUTO_FLUSH, (AutoFlushEventListener) event -> {
+            if (event.isFlushRequired()) {
+                autoFlushes.computeIfAbsent(currentMethod(), method ->
+                                Counter.builder("jpashop.hibernate.auto-flush")
+                                        .tag("method", method)
+                                        .register(meterRegistry))
+                        .increment();
+            }
+        });
+    }
+
+    private static String currentMethod() {
+        String repositoryMethod = QueryCountHolder.getRepositoryMethod();
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+
+        String serviceMethod = QueryCountHolder.getServiceMethod();
+        return serviceMethod != null ? serviceMethod : "none";
+    }
+
+    private static String simpleName(String entityName) {
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * jpabook.jpashop.domain.order.Order.orderItems -> Order.orderItems
+     */
+    private static String shortRole(String role) {
+        int property = role.lastIndexOf('.');
+        return role.substring(role.lastIndexOf('.', property - 1) + 1);
+    }
+
+    /**
+     * (method 태그, 엔티티 이름 또는 컬렉션 role)
+     */
+    private record MeterKey(String method, String name) {
+    }
+}
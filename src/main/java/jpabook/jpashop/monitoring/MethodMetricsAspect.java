@@ -0,0 +1,126 @@
+package jpabook.jpashop.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * repository, @Transactional service 메서드 실행 시간 (Micrometer Timer, class / method / exception 태그) <br><br>
+ *
+ * - 트랜잭션 AOP 보다 바깥에서 실행 -> service 시간에 트랜잭션 시작, flush, 커밋까지 포함 <br>
+ * - 트랜잭션 안에서 repository 가 처음 호출될 때 커밋 시간 측정 등록 (jpashop.tx.commit, flush + DB 커밋) <br>
+ * - service 메서드 이름은 QueryCountHolder 에 보관 -> flush, 커밋, 엔티티 로딩을 service 메서드별로 집계 (HibernateEventMetrics) <br>
+ * - Timer 는 태그 조합별로 Map 에 보관 (호출마다 builder 로 등록X), histogram 은 application.yml 에서 지표별로 설정
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MethodMetricsAspect {
+
+    public static final String REPOSITORY_TIMER = "jpashop.repository";
+    public static final String SERVICE_TIMER = "jpashop.service";
+    public static final String COMMIT_TIMER = "jpashop.tx.commit";
+
+    private static final Object COMMIT_TIMER_KEY = new Object();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<CommitKey, Timer> commitTimers = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.stereotype.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        registerCommitTimer();
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && " +
+            "(@within(org.springframework.transaction.annotation.Transactional) || @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = QueryCountHolder.getServiceMethod();
+        if (previous == null) {
+            QueryCountHolder.setServiceMethod(methodName(joinPoint));
+        }
+
+        try {
+            return time(SERVICE_TIMER, joinPoint);
+        } finally {
+            QueryCountHolder.setServiceMethod(previous);
+        }
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            TimerKey key = new TimerKey(name, joinPoint.getSignature().getDeclaringType(), joinPoint.getSignature().getName(), exception);
+            sample.stop(timers.computeIfAbsent(key, k -> Timer.builder(k.name())
+                    .tag("class", k.type().getSimpleName())
+                    .tag("method", k.method())
+                    .tag("exception", k.exception())
+                    .register(meterRegistry)));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 beforeCommit ~ afterCompletion 시간을 기록 (트랜잭션당 1번만 등록)
+     */
+    private void registerCommitTimer() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(COMMIT_TIMER_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(COMMIT_TIMER_KEY, Boolean.TRUE);
+        String method = QueryCountHolder.getServiceMethod() != null ? QueryCountHolder.getServiceMethod() : "none";
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Timer.Sample sample;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                sample = Timer.start(meterRegistry);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(COMMIT_TIMER_KEY);
+                if (sample != null) {
+                    CommitKey key = new CommitKey(method, status == STATUS_COMMITTED ? "committed" : "rolled_back");
+                    sample.stop(commitTimers.computeIfAbsent(key, k -> Timer.builder(COMMIT_TIMER)
+                            .tag("method", k.method())
+                            .tag("outcome", k.outcome())
+                            .register(meterRegistry)));
+                }
+            }
+        });
+    }
+
+    private static String methodName(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+
+    private record TimerKey(String name, Class<?> type, String method, String exception) {
+    }
+
+    private record CommitKey(String method, String outcome) {
+    }
+}
@@ -0,0 +1,16 @@
+package jpabook.jpashop.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드 1회 호출에 허용되는 최대 SQL 수 <br>
+ * - jpashop.query-count.enforce-budget=true 이면 초과 시 예외 (테스트용), 아니면 경고 로그만
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
@@ -0,0 +1,25 @@
+package jpabook.jpashop.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 핸들러의 @QueryBudget 을 현재 요청의 QueryCounter 에 등록
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter counter = QueryCountHolder.current();
+
+        if (counter != null && handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                counter.setBudget(budget.value());
+            }
+        }
+        return true;
+    }
+}
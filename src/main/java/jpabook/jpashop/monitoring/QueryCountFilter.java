@@ -0,0 +1,66 @@
+package jpabook.jpashop.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jpabook.jpashop.exception.QueryBudgetExceededException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청마다 SQL 실행 수 집계 <br><br>
+ *
+ * - 같은 모양의 SQL 이 반복되면 N + 1 의심 경고 로그 <br>
+ * - @QueryBudget 초과 시 경고 로그, enforce-budget=true 이면 예외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final QueryStats queryStats;
+
+    @Value("${jpashop.query-count.enforce-budget:false}")
+    private boolean enforceBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter counter = QueryCountHolder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountHolder.clear();
+        }
+
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+        queryStats.recordRequest(endpoint, counter);
+
+        Map<String, Integer> repeated = counter.getRepeatedStatements();
+        if (!repeated.isEmpty()) {
+            log.warn("[N+1 의심] {} : 쿼리 {}번, 반복 SQL {}", endpoint, counter.getTotal(), repeated);
+        }
+
+        if (counter.isOverBudget()) {
+            String message = endpoint + " 쿼리 " + counter.getTotal() + "번 실행 (허용 " + counter.getBudget() + "번)";
+            if (enforceBudget) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn("[쿼리 수 초과] {}", message);
+        }
+    }
+
+    private String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,58 @@
+package jpabook.jpashop.monitoring;
+
+/**
+ * 현재 스레드의 요청별 SQL 집계와 실행 중인 repository / service 메서드 보관
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryCounter> COUNTER = new ThreadLocal<>();
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+    private static final ThreadLocal<String> SERVICE_METHOD = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        COUNTER.set(counter);
+        return counter;
+    }
+
+    /**
+     * 요청 밖(InitDB, 배치 등)에서는 null
+     */
+    public static QueryCounter current() {
+        return COUNTER.get();
+    }
+
+    public static void clear() {
+        COUNTER.remove();
+    }
+
+    public static String getRepositoryMethod() {
+        return REPOSITORY_METHOD.get();
+    }
+
+    static void setRepositoryMethod(String repositoryMethod) {
+        if (repositoryMethod == null) {
+            REPOSITORY_METHOD.remove();
+        } else {
+            REPOSITORY_METHOD.set(repositoryMethod);
+        }
+    }
+
+    /**
+     * 가장 바깥쪽 @Transactional service 메서드 (트랜잭션 커밋, flush 를 메서드별로 집계)
+     */
+    public static String getServiceMethod() {
+        return SERVICE_METHOD.get();
+    }
+
+    static void setServiceMethod(String serviceMethod) {
+        if (serviceMethod == null) {
+            SERVICE_METHOD.remove();
+        } else {
+            SERVICE_METHOD.set(serviceMethod);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package jpabook.jpashop.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 가 실행하는 모든 SQL 을 요청별 / repository 메서드별로 집계 <br>
+ * - SQL 은 바꾸지 않고 그대로 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountInspector implements StatementInspector {
+
+    private final QueryStats queryStats;
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter counter = QueryCountHolder.current();
+        if (counter != null) {
+            counter.record(sql);
+        }
+
+        queryStats.recordStatement(QueryCountHolder.getRepositoryMethod());
+        return sql;
+    }
+}
@@ -0,0 +1,33 @@
+package jpabook.jpashop.monitoring;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * API 응답 헤더(X-Query-Count)에 지금까지 실행된 SQL 수를 담음 <br>
+ * - 응답 본문을 쓰기 직전이라 헤더를 추가할 수 있는 마지막 시점
+ */
+@RestControllerAdvice
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryCounter counter = QueryCountHolder.current();
+        if (counter != null) {
+            response.getHeaders().set(QueryCountFilter.HEADER, String.valueOf(counter.getTotal()));
+        }
+        return body;
+    }
+}
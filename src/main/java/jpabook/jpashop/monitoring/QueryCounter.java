@@ -0,0 +1,65 @@
+package jpabook.jpashop.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 1건 동안 실행된 SQL 집계 <br><br>
+ *
+ * - 바인딩 값만 다른 같은 모양의 SQL 은 하나로 묶어서 셈 -> 2번 이상이면 N + 1 의심 <br>
+ * - 요청 스레드에서만 사용 (QueryCountHolder)
+ */
+public class QueryCounter {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int total;
+    private final Map<String, Integer> statements = new HashMap<>();
+    private Integer budget;
+
+    public void record(String sql) {
+        total++;
+        statements.merge(normalize(sql), 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * 같은 모양으로 2번 이상 실행된 SQL 과 실행 횟수
+     */
+    public Map<String, Integer> getRepeatedStatements() {
+        Map<String, Integer> repeated = new HashMap<>();
+        statements.forEach((sql, count) -> {
+            if (count > 1) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    public Integer getBudget() {
+        return budget;
+    }
+
+    public void setBudget(Integer budget) {
+        this.budget = budget;
+    }
+
+    public boolean isOverBudget() {
+        return budget != null && total > budget;
+    }
+
+    /**
+     * 문자열, 숫자 리터럴을 ? 로 바꿔서 바인딩 값만 다른 SQL 을 같은 SQL 로 취급
+     */
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
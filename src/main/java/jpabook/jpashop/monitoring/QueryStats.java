@@ -0,0 +1,78 @@
+package jpabook.jpashop.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 애플리케이션 전체 SQL 실행 통계 (엔드포인트별, repository 메서드별)
+ */
+@Component
+public class QueryStats {
+
+    public static final String LAZY_LOADING = "(lazy loading)";
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> repositoryMethods = new ConcurrentHashMap<>();
+
+    public void recordStatement(String repositoryMethod) {
+        repositoryMethods.computeIfAbsent(repositoryMethod == null ? LAZY_LOADING : repositoryMethod, k -> new LongAdder())
+                .increment();
+    }
+
+    public void recordRequest(String endpoint, QueryCounter counter) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, k -> new EndpointStats());
+        stats.requests.increment();
+        stats.queries.add(counter.getTotal());
+        stats.maxQueries.accumulateAndGet(counter.getTotal(), Math::max);
+
+        if (!counter.getRepeatedStatements().isEmpty()) {
+            stats.repeatedRequests.increment();
+        }
+        if (counter.isOverBudget()) {
+            stats.overBudgetRequests.increment();
+        }
+    }
+
+    public Map<String, EndpointStatsDTO> getEndpoints() {
+        Map<String, EndpointStatsDTO> result = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> result.put(endpoint, stats.toDTO()));
+        return result;
+    }
+
+    public Map<String, Long> getRepositoryMethods() {
+        Map<String, Long> result = new TreeMap<>();
+        repositoryMethods.forEach((method, count) -> result.put(method, count.sum()));
+        return result;
+    }
+
+    private static class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder queries = new LongAdder();
+        private final AtomicInteger maxQueries = new AtomicInteger();
+        private final LongAdder repeatedRequests = new LongAdder();
+        private final LongAdder overBudgetRequests = new LongAdder();
+
+        private EndpointStatsDTO toDTO() {
+            long requestCount = requests.sum();
+            double avg = requestCount == 0 ? 0 : (double) queries.sum() / requestCount;
+            return new EndpointStatsDTO(requestCount, avg, maxQueries.get(), repeatedRequests.sum(), overBudgetRequests.sum());
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class EndpointStatsDTO {
+        private long requests;
+        private double avgQueries;
+        private int maxQueries;
+        private long repeatedStatementRequests; // 같은 모양의 SQL 이 반복된 요청 수 (N + 1 의심)
+        private long overBudgetRequests;
+    }
+}
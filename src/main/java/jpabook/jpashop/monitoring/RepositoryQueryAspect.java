@@ -0,0 +1,27 @@
+package jpabook.jpashop.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 중인 repository 메서드 이름을 기록 -> SQL 을 repository 메서드별로 집계 <br>
+ * - repository 밖에서 실행된 SQL 은 지연 로딩 (QueryStats.LAZY_LOADING)
+ */
+@Aspect
+@Component
+public class RepositoryQueryAspect {
+
+    @Around("@within(org.springframework.stereotype.Repository)")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = QueryCountHolder.getRepositoryMethod();
+        QueryCountHolder.setRepositoryMethod(joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            QueryCountHolder.setRepositoryMethod(previous);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package jpabook.jpashop.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * 파일로 전송 (jpashop.outbox.sink=file) <br>
+ * - 이벤트 1건 = JSON 1줄 (NDJSON), 묶음마다 파일을 한 번 열어서 이어 씀
+ */
+@Component
+@ConditionalOnProperty(name = "jpashop.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper,
+                          @Value("${jpashop.outbox.file:outbox-events.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, CREATE, APPEND)) {
+            for (OutboxEvent event : events) {
+                ObjectNode line = objectMapper.createObjectNode()
+                        .put("id", event.getId())
+                        .put("type", event.getEventType().name())
+                        .put("aggregateType", event.getAggregateType())
+                        .put("aggregateId", event.getAggregateId())
+                        .put("createdAt", event.getCreatedAt().toString());
+                line.putRawValue("payload", new RawValue(event.getPayload())); // 이미 JSON 이므로 다시 파싱하지 않음
+
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
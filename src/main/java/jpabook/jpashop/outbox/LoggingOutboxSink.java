@@ -0,0 +1,25 @@
+package jpabook.jpashop.outbox;
+
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기본 전송 대상 : 로그로 출력 (jpashop.outbox.sink=log)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jpashop.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("outbox event id={} type={} {}={}", event.getId(), event.getEventType(),
+                    event.getAggregateType(), event.getAggregateId());
+        }
+    }
+}
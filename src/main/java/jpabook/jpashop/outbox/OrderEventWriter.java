@@ -0,0 +1,57 @@
+package jpabook.jpashop.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import jpabook.jpashop.domain.outbox.OutboxEventType;
+import jpabook.jpashop.dto.OrderEventDTO;
+import jpabook.jpashop.repository.outbox.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 주문 이벤트를 outbox 에 기록 <br>
+ * - 호출한 쪽의 트랜잭션 안에서 insert (주문 insert 와 같이 배치로 전송)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventWriter {
+
+    private static final String AGGREGATE_TYPE = "Order";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public void orderPlaced(Order order) {
+        write(order, OutboxEventType.ORDER_PLACED);
+    }
+
+    public void orderCanceled(Order order) {
+        write(order, OutboxEventType.ORDER_CANCELED);
+    }
+
+    /**
+     * 일괄 취소 : 주문 엔티티 대신 조회한 이벤트 내용으로 기록 (단건 취소와 같은 payload)
+     */
+    public void ordersCanceled(Collection<OrderEventDTO> events) {
+        for (OrderEventDTO event : events) {
+            write(event.getOrderId(), OutboxEventType.ORDER_CANCELED, event);
+        }
+    }
+
+    private void write(Order order, OutboxEventType eventType) {
+        write(order.getId(), eventType, new OrderEventDTO(order));
+    }
+
+    private void write(Long orderId, OutboxEventType eventType, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            outboxRepository.save(OutboxEvent.createEvent(AGGREGATE_TYPE, orderId, eventType, json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트를 JSON 으로 변환할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package jpabook.jpashop.outbox;
+
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import jpabook.jpashop.repository.outbox.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 이벤트 전송 <br><br>
+ *
+ * - 주기마다 batchSize 개씩 조회 -> sink 로 전송 -> delete 1번, 묶음마다 트랜잭션 1개 <br>
+ * - 묶음이 가득 차면 쌓인 이벤트가 없을 때까지 이어서 전송 (주기당 최대 maxBatchesPerRun 묶음) <br>
+ * - 전송 중 예외가 나면 묶음 전체가 롤백되어 다음 주기에 다시 전송 <br>
+ * - 한 JVM 안에서는 동시에 한 스레드만 전송
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink outboxSink;
+    private final OutboxStats outboxStats;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OutboxSink outboxSink,
+                       OutboxStats outboxStats,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${jpashop.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${jpashop.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.outboxRepository = outboxRepository;
+        this.outboxSink = outboxSink;
+        this.outboxStats = outboxStats;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${jpashop.outbox.relay.interval-ms:1000}")
+    public void scheduledRelay() {
+        relay();
+    }
+
+    /**
+     * @return 전송한 이벤트 수
+     */
+    public int relay() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        int published = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<OutboxEvent> batch = tx.execute(status -> relayBatch());
+                outboxStats.recordBatch(batch);
+                published += batch.size();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            outboxStats.recordFailure();
+            log.warn("outbox 전송 실패, 다음 주기에 다시 전송합니다.", e);
+        } finally {
+            outboxStats.recordRun(published, System.nanoTime() - start);
+            running.set(false);
+        }
+        return published;
+    }
+
+    private List<OutboxEvent> relayBatch() {
+        List<OutboxEvent> batch = outboxRepository.findBatch(batchSize);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        outboxSink.publish(batch);
+        outboxRepository.deleteAllByIds(batch.stream()
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toList()));
+        return batch;
+    }
+}
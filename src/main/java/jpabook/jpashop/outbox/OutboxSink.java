@@ -0,0 +1,16 @@
+package jpabook.jpashop.outbox;
+
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 전송 대상 (메시지 브로커, 파일 등) <br><br>
+ *
+ * - 묶음 단위로 전송, 예외가 나면 묶음 전체를 다음 주기에 다시 전송 (at-least-once) <br>
+ * - 받는 쪽은 이벤트 id 로 중복을 걸러야 함
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
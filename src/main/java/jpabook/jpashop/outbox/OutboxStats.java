@@ -0,0 +1,83 @@
+package jpabook.jpashop.outbox;
+
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * outbox 전송 통계 (처리량, 지연) <br><br>
+ *
+ * - publishLag : 이벤트가 쌓인 뒤 전송될 때까지 걸린 시간 (묶음에서 가장 오래된 이벤트 기준) <br>
+ * - pendingLag : 아직 전송되지 않은 가장 오래된 이벤트의 대기 시간 (조회 시점 기준)
+ */
+@Component
+public class OutboxStats {
+
+    private final long startedAt = System.currentTimeMillis();
+
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLong maxPublishLagMillis = new AtomicLong();
+
+    private volatile int lastBatchSize;
+    private volatile long lastPublishLagMillis;
+    private volatile double lastRunEventsPerSecond;
+
+    public void recordBatch(List<OutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long lag = Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis();
+
+        publishedEvents.add(batch.size());
+        batches.increment();
+        lastBatchSize = batch.size();
+        lastPublishLagMillis = lag;
+        maxPublishLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    public void recordRun(int published, long elapsedNanos) {
+        if (published > 0) {
+            lastRunEventsPerSecond = published * 1_000_000_000.0 / Math.max(elapsedNanos, 1);
+        }
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public OutboxStatsDTO toDTO(long pendingEvents, LocalDateTime oldestPendingCreatedAt) {
+        long published = publishedEvents.sum();
+        double uptimeSeconds = Math.max(System.currentTimeMillis() - startedAt, 1) / 1000.0;
+        long pendingLag = oldestPendingCreatedAt == null ? 0
+                : Duration.between(oldestPendingCreatedAt, LocalDateTime.now()).toMillis();
+
+        return new OutboxStatsDTO(pendingEvents, pendingLag, published, batches.sum(), failures.sum(),
+                published / uptimeSeconds, lastRunEventsPerSecond,
+                lastBatchSize, lastPublishLagMillis, maxPublishLagMillis.get());
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class OutboxStatsDTO {
+        private long pendingEvents;
+        private long pendingLagMillis;
+        private long publishedEvents;
+        private long batches;
+        private long failures;
+        private double avgEventsPerSecond; // 기동 이후 평균
+        private double lastRunEventsPerSecond; // 마지막 전송 주기
+        private int lastBatchSize;
+        private long lastPublishLagMillis;
+        private long maxPublishLagMillis;
+    }
+}
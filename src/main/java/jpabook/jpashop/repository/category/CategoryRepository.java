@@ -0,0 +1,60 @@
+package jpabook.jpashop.repository.category;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Category;
+import jpabook.jpashop.domain.item.Item;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CategoryRepository {
+
+    private final EntityManager em;
+
+    public void save(Category category) {
+        em.persist(category);
+    }
+
+    public Category findOne(Long id) {
+        return em.find(Category.class, id);
+    }
+
+    /**
+     * 전체 카테고리, 경로 순 (부모가 항상 자식보다 먼저 나옴)
+     */
+    public List<Category> findAllOrderByPath() {
+        return em.createQuery("select c from Category c order by c.path", Category.class)
+                .getResultList();
+    }
+
+    /**
+     * 하위 카테고리 전체에 속한 상품 <br>
+     * - path 앞부분 일치로 트리 깊이와 상관없이 쿼리 1번 (category.path 인덱스)
+     */
+    public List<Item> findItemsInSubtree(String path, int offset, int limit) {
+        return em.createQuery("select distinct i from Item i" +
+                        " join i.categories c" +
+                        " where c.path like :path" +
+                        " order by i.id", Item.class)
+                .setParameter("path", path + "%")
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 하위 카테고리 전체의 경로 앞부분을 oldPath -> newPath 로 변경 (카테고리 이동)
+     */
+    public int updatePath(String oldPath, String newPath) {
+        return em.createQuery("update Category c" +
+                        " set c.path = concat(:newPath, substring(c.path, length(:oldPath) + 1))" +
+                        " where c.path like :pathPrefix")
+                .setParameter("newPath", newPath)
+                .setParameter("oldPath", oldPath)
+                .setParameter("pathPrefix", oldPath + "%")
+                .executeUpdate();
+    }
+}
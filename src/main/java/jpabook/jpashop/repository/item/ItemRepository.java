@@ -2,10 +2,13 @@ package jpabook.jpashop.repository.item;
 
 import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.exception.NotEnoughStockException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Repository
 @RequiredArgsConstructor
@@ -30,4 +33,149 @@ public class ItemRepository {
                 .getResultList();
     }
 
+    public List<Item> findAllByIds(Collection<Long> ids) {
+        return em.createQuery("select i from Item i where i.id in :ids", Item.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * 재고 차감 : 엔티티를 조회하지 않고 조건부 update 한 번으로 처리 <br><br>
+     *
+     * - 재고가 부족하면 갱신되는 row 가 없음 -> NotEnoughStockException, 상품이 없으면 IllegalArgumentException <br>
+     * - DB 에서 원자적으로 차감하므로 동시 주문에도 갱신 손실이 없음 <br>
+     * - 영속성 컨텍스트를 거치지 않으므로 이미 조회된 Item 의 stockQuantity 는 바뀌지 않음 <br>
+     * - 재고가 분할된 상품은 버킷 row 에서 차감 (removeShardedStock)
+     */
+    public void removeStock(Long itemId, int quantity) {
+        checkQuantity(quantity);
+
+        int updated = em.createQuery("update Item i" +
+                        " set i.stockQuantity = i.stockQuantity - :quantity" +
+                        " where i.id = :itemId" +
+                        " and i.stockShardCount = 0" +
+                        " and i.stockQuantity >= :quantity")
+                .setParameter("quantity", quantity)
+                .setParameter("itemId", itemId)
+                .executeUpdate();
+
+        if (updated == 0) {
+            removeShardedStock(itemId, quantity);
+        }
+    }
+
+    /**
+     * 분할 재고 차감 <br><br>
+     *
+     * - 1. 임의의 버킷부터 시작해서 재고가 충분한 버킷 하나에서 차감 (동시 주문이 서로 다른 버킷 row 를 갱신하므로 한 row 에 락이 몰리지 않음) <br>
+     * - 2. 한 버킷으로 부족하면 버킷 순서대로 모두 잠그고 여러 버킷에서 나누어 차감 (drainShards) <br>
+     * - 버킷 합계가 부족할 때만 NotEnoughStockException
+     */
+    private void removeShardedStock(Long itemId, int quantity) {
+        Item item = getItem(itemId);
+        if (!item.isStockSharded()) {
+            throw new NotEnoughStockException("need not stock");
+        }
+
+        int shardCount = item.getStockShardCount();
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            if (removeBucketStock(itemId, (start + i) % shardCount, quantity) > 0) {
+                return;
+            }
+        }
+
+        drainShards(itemId, quantity);
+    }
+
+    /**
+     * 버킷 row 를 bucket 순서로 select for update 한 뒤 앞 버킷부터 차감 <br>
+     * - 항상 같은 순서로 잠그므로 여러 버킷을 잠그는 주문끼리 데드락X <br>
+     * - 잠근 뒤에는 재고가 바뀌지 않으므로 조건부 update 가 모두 성공
+     */
+    private void drainShards(Long itemId, int quantity) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> shards = em.createNativeQuery("select bucket, stock_quantity from item_stock_shard" +
+                        " where item_id = :itemId" +
+                        " order by bucket" +
+                        " for update")
+                .setParameter("itemId", itemId)
+                .getResultList();
+
+        int total = shards.stream()
+                .mapToInt(row -> ((Number) row[1]).intValue())
+                .sum();
+        if (total < quantity) {
+            throw new NotEnoughStockException("need not stock");
+        }
+
+        int remaining = quantity;
+        for (Object[] row : shards) {
+            int take = Math.min(((Number) row[1]).intValue(), remaining);
+            if (take > 0) {
+                removeBucketStock(itemId, ((Number) row[0]).intValue(), take);
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+
+    private int removeBucketStock(Long itemId, int bucket, int quantity) {
+        return em.createQuery("update ItemStockShard s" +
+                        " set s.stockQuantity = s.stockQuantity - :quantity" +
+                        " where s.item.id = :itemId" +
+                        " and s.bucket = :bucket" +
+                        " and s.stockQuantity >= :quantity")
+                .setParameter("quantity", quantity)
+                .setParameter("itemId", itemId)
+                .setParameter("bucket", bucket)
+                .executeUpdate();
+    }
+
+    /**
+     * 재고 복구 : removeStock 과 마찬가지로 update 한 번으로 처리 (Order.cancel) <br>
+     * - 분할 재고 상품은 0번 버킷에 복구 (취소는 주문보다 드물어서 락 경합이 적음)
+     */
+    public void addStock(Long itemId, int quantity) {
+        checkQuantity(quantity);
+
+        int updated = em.createQuery("update Item i" +
+                        " set i.stockQuantity = i.stockQuantity + :quantity" +
+                        " where i.id = :itemId" +
+                        " and i.stockShardCount = 0")
+                .setParameter("quantity", quantity)
+                .setParameter("itemId", itemId)
+                .executeUpdate();
+
+        if (updated == 0) {
+            getItem(itemId); // 없는 상품이면 예외
+            em.createQuery("update ItemStockShard s" +
+                            " set s.stockQuantity = s.stockQuantity + :quantity" +
+                            " where s.item.id = :itemId" +
+                            " and s.bucket = 0")
+                    .setParameter("quantity", quantity)
+                    .setParameter("itemId", itemId)
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * 0 이하 수량은 차감 조건(stockQuantity >= quantity)을 항상 통과해서 재고를 늘리므로 거부
+     */
+    private static void checkQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다. quantity=" + quantity);
+        }
+    }
+
+    private Item getItem(Long itemId) {
+        Item item = findOne(itemId);
+        if (item == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. itemId=" + itemId);
+        }
+        return item;
+    }
 }
@@ -0,0 +1,158 @@
+package jpabook.jpashop.repository.member;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jpabook.jpashop.domain.member.Member;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 이름 2-gram 인덱스 (메모리) <br><br>
+ *
+ * - 이름 중간 글자 검색(%name%)은 DB 인덱스를 쓸 수 없어서, 후보 회원 id 를 먼저 찾아 IN 조건으로 좁힘 <br>
+ * - Member insert / update / delete 가 커밋된 뒤에 갱신, 애플리케이션 시작 시 전체 적재 <br>
+ * - 롤백된 변경은 반영되지 않음 <br>
+ * - 커밋 직후 반영 전의 짧은 구간, 아직 커밋되지 않은 자기 트랜잭션의 변경은 검색되지 않을 수 있음 <br>
+ * - 이름 조건은 쿼리에서 다시 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberNameIndex implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final int N = 2;
+
+    private final EntityManager em;
+    private final EntityManagerFactory emf;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerListener() {
+        EventListenerRegistry registry = emf.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Object[]> rows = em.createQuery("select m.id, m.name from Member m", Object[].class)
+                .getResultList();
+        rows.forEach(row -> put((Long) row[0], (String) row[1]));
+    }
+
+    /**
+     * 이름에 text 가 포함될 수 있는 회원 id <br>
+     * - text 가 N 글자보다 짧으면 인덱스를 쓸 수 없으므로 null
+     */
+    public Set<Long> search(String text) {
+        if (text.length() < N) {
+            return null;
+        }
+
+        Set<Long> result = null;
+        for (String gram : grams(text)) {
+            Set<Long> ids = postings.getOrDefault(gram, Set.of());
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+
+        result.removeIf(id -> {
+            String name = names.get(id);
+            return name == null || !name.contains(text);
+        });
+        return result;
+    }
+
+    public void put(Long memberId, String name) {
+        String previous = name == null ? names.remove(memberId) : names.put(memberId, name);
+        if (previous != null) {
+            for (String gram : grams(previous)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(memberId);
+                }
+            }
+        }
+        if (name != null) {
+            grams(name).forEach(gram -> postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(memberId));
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Member member) {
+            put(member.getId(), member.getName());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Member member) {
+            put(member.getId(), member.getName());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Member member) {
+            put(member.getId(), null);
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Member.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + N <= text.length(); i++) {
+            grams.add(text.substring(i, i + N));
+        }
+        return grams;
+    }
+}
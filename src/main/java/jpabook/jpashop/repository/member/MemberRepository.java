@@ -3,8 +3,10 @@ package jpabook.jpashop.repository.member;
 import jakarta.persistence.EntityManager;
 import jpabook.jpashop.domain.member.Member;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,6 +25,13 @@ public class MemberRepository {
 
     public List<Member> findAll() {
         return em.createQuery("select m from Member m", Member.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true) // 쿼리 캐시 (member 테이블 변경 시 무효화)
+                .getResultList();
+    }
+
+    public List<Member> findAllByIds(Collection<Long> ids) {
+        return em.createQuery("select m from Member m where m.id in :ids", Member.class)
+                .setParameter("ids", ids)
                 .getResultList();
     }
 
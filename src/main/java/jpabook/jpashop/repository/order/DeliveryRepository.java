@@ -0,0 +1,85 @@
+package jpabook.jpashop.repository.order;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.DeliveryStatus;
+import jpabook.jpashop.domain.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 배송 상태 일괄 변경 <br><br>
+ *
+ * - 엔티티를 조회하지 않고 update 1번으로 처리 (조회 N번, 변경 감지 update N번X) <br>
+ * - 배송 준비 중(status null 또는 READY)이고 주문 상태가 ORDER 인 배송만 변경 -> 취소된 주문은 완료되지 않음 <br>
+ * - bulk update 는 영속성 컨텍스트를 거치지 않음 -> id 로 변경하면 대상 배송만 refresh, 주문일 범위로 변경하면 영속성 컨텍스트 초기화
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryRepository {
+
+    private final EntityManager em;
+
+    public Delivery findOne(Long id) {
+        return em.find(Delivery.class, id);
+    }
+
+    public int completeAllByIds(Collection<Long> deliveryIds) {
+        int updated = em.createQuery("update Delivery d" +
+                        " set d.status = :comp" +
+                        " where d.id in :deliveryIds" +
+                        " and (d.status is null or d.status = :ready)" +
+                        " and exists (select o.id from Order o where o.delivery = d and o.status = :orderStatus)")
+                .setParameter("comp", DeliveryStatus.COMP)
+                .setParameter("ready", DeliveryStatus.READY)
+                .setParameter("orderStatus", OrderStatus.ORDER)
+                .setParameter("deliveryIds", deliveryIds)
+                .executeUpdate();
+
+        refresh(deliveryIds);
+        return updated;
+    }
+
+    /**
+     * 주문 id 범위 [fromOrderId, toOrderId] 중 주문일시가 [from, to) 인 주문의 배송 완료 <br>
+     * - 변경된 배송 id 를 알 수 없으므로 update 후 영속성 컨텍스트 초기화 (변경 내용은 update 전에 flush 됨)
+     */
+    public int completeAllByOrderDate(Long fromOrderId, Long toOrderId, LocalDateTime from, LocalDateTime to) {
+        int updated = em.createQuery("update Delivery d" +
+                        " set d.status = :comp" +
+                        " where (d.status is null or d.status = :ready)" +
+                        " and d.id in (select o.delivery.id from Order o" +
+                        "   where o.id between :fromOrderId and :toOrderId" +
+                        "   and o.orderDate >= :from and o.orderDate < :to" +
+                        "   and o.status = :orderStatus)")
+                .setParameter("comp", DeliveryStatus.COMP)
+                .setParameter("ready", DeliveryStatus.READY)
+                .setParameter("orderStatus", OrderStatus.ORDER)
+                .setParameter("fromOrderId", fromOrderId)
+                .setParameter("toOrderId", toOrderId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+
+        em.clear();
+        return updated;
+    }
+
+    /**
+     * 이미 조회한 대상 배송만 다시 조회 <br>
+     * - getReference 는 조회한 배송이면 그 엔티티, 아니면 초기화되지 않은 프록시를 반환 (SQL X) <br>
+     * - 프록시는 처음 사용할 때 변경된 값으로 초기화되므로 그대로 둠
+     */
+    private void refresh(Collection<Long> deliveryIds) {
+        for (Long deliveryId : deliveryIds) {
+            Delivery delivery = em.getReference(Delivery.class, deliveryId);
+            if (Hibernate.isInitialized(delivery)) {
+                em.refresh(delivery);
+            }
+        }
+    }
+}
@@ -2,20 +2,39 @@ package jpabook.jpashop.repository.order;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import jpabook.jpashop.domain.order.DeliveryStatus;
 import jpabook.jpashop.domain.order.Order;
 import jpabook.jpashop.domain.order.OrderSearch;
+import jpabook.jpashop.domain.order.OrderStatus;
+import jpabook.jpashop.dto.OrderEventDTO;
 import jpabook.jpashop.dto.OrderSimpleQueryDTO;
+import jpabook.jpashop.repository.member.MemberNameIndex;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepository {
 
+    private static final int MAX_MEMBER_IDS = 1000; // 후보 회원이 이보다 많으면 IN 조건 없이 like 만 사용
+
     private final EntityManager em;
+    private final MemberNameIndex memberNameIndex;
+
+    private final Map<String, String> searchQueries = new ConcurrentHashMap<>(); // 이름 있는 쿼리로 등록된 검색 쿼리 (이름 -> JPQL)
 
     public void save(Order order) {
         em.persist(order);
@@ -25,47 +44,156 @@ public class OrderRepository {
         return em.find(Order.class, id);
     }
 
-    // TODO: 동적 쿼리 - Querydsl 적용 예정
-//    public List<Order> findAll(OrderSearch orderSearch) {}
+    /**
+     * 주문 검색 (동적 쿼리) <br><br>
+     *
+     * - 조건 값은 모두 파라미터, 조건 조합마다 쿼리 모양은 하나 (OrderSearchCondition) <br>
+     * - 조건 조합별 JPQL 을 처음 한 번 이름 있는 쿼리로 등록 -> 이후에는 파싱/SQL 변환 없이 재사용 <br>
+     * - 회원 이름은 앞부분 일치(name%) 기본, member.name 인덱스 사용 <br>
+     * - 중간 일치(%name%)는 MemberNameIndex 로 후보 회원 id 를 먼저 좁힘 (후보가 MAX_MEMBER_IDS 보다 많으면 like 만) <br>
+     * - page, size 로 페이징, 전체 건수는 count
+     */
+    public List<Order> findAll(OrderSearch orderSearch) {
+        Map<String, Object> params = new HashMap<>();
+        Set<OrderSearchCondition> conditions = searchConditions(orderSearch, params);
+        if (conditions == null) {
+            return List.of();
+        }
 
-    public List<Order> findAllByString(OrderSearch orderSearch) {
-        //language=JPAQL
-        String jpql = "select o From Order o join o.member m";
-        boolean isFirstCondition = true;
+        TypedQuery<Order> query = em.createNamedQuery(searchQueryName(conditions, false), Order.class)
+                .setFirstResult((int) Math.min((long) orderSearch.getPage() * orderSearch.getSize(), Integer.MAX_VALUE))
+                .setMaxResults(orderSearch.getSize());
+        params.forEach(query::setParameter);
+
+        return query.getResultList();
+    }
+
+    public long count(OrderSearch orderSearch) {
+        Map<String, Object> params = new HashMap<>();
+        Set<OrderSearchCondition> conditions = searchConditions(orderSearch, params);
+        if (conditions == null) {
+            return 0;
+        }
+
+        TypedQuery<Long> query = em.createNamedQuery(searchQueryName(conditions, true), Long.class);
+        params.forEach(query::setParameter);
+
+        return query.getSingleResult();
+    }
+
+    /**
+     * 조건 조합에 해당하는 이름 있는 쿼리를 (없으면 등록하고) 반환
+     */
+    private String searchQueryName(Set<OrderSearchCondition> conditions, boolean count) {
+        String name = (count ? "Order.searchCount." : "Order.search.") + conditions.stream()
+                .mapToInt(c -> 1 << c.ordinal())
+                .sum();
+
+        searchQueries.computeIfAbsent(name, n -> {
+            //language=JPAQL
+            String jpql = (count ? "select count(o)" : "select o") + " from Order o join o.member m" + where(conditions)
+                    + (count ? "" : " order by o.id");
+            em.getEntityManagerFactory().addNamedQuery(n, em.createQuery(jpql));
+            return jpql;
+        });
+        return name;
+    }
+
+    /**
+     * 적용할 조건과 파라미터 값 <br>
+     * - 조회 결과가 없는 것이 확실하면 null
+     */
+    private Set<OrderSearchCondition> searchConditions(OrderSearch orderSearch, Map<String, Object> params) {
+        Set<OrderSearchCondition> conditions = EnumSet.noneOf(OrderSearchCondition.class);
 
         //주문 상태 검색
         if (orderSearch.getOrderStatus() != null) {
-            if (isFirstCondition) {
-                jpql += " where";
-                isFirstCondition = false;
-            } else {
-                jpql += " and";
-            }
-            jpql += " o.status = :status";
+            conditions.add(OrderSearchCondition.STATUS);
+            params.put("status", orderSearch.getOrderStatus());
         }
 
         //회원 이름 검색
         if (StringUtils.hasText(orderSearch.getMemberName())) {
-            if (isFirstCondition) {
-                jpql += " where";
-                isFirstCondition = false;
+            String name = orderSearch.getMemberName();
+
+            if (orderSearch.getNameMatch() == OrderSearch.NameMatch.CONTAINS) {
+                Set<Long> memberIds = memberNameIndex.search(name);
+                if (memberIds != null && memberIds.isEmpty()) {
+                    return null;
+                }
+                if (memberIds != null && memberIds.size() <= MAX_MEMBER_IDS) {
+                    conditions.add(OrderSearchCondition.MEMBER_IDS);
+                    params.put("memberIds", memberIds);
+                }
+                params.put("name", "%" + escapeLike(name) + "%");
             } else {
-                jpql += " and";
+                params.put("name", escapeLike(name) + "%");
             }
-            jpql += " m.name like :name";
+            conditions.add(OrderSearchCondition.MEMBER_NAME);
         }
 
-        TypedQuery<Order> query = em.createQuery(jpql, Order.class).setMaxResults(1000); //최대 1000건
-        if (orderSearch.getOrderStatus() != null) {
-            query = query.setParameter("status", orderSearch.getOrderStatus());
+        //주문 일자 검색
+        if (orderSearch.getOrderDateFrom() != null) {
+            conditions.add(OrderSearchCondition.ORDER_DATE_FROM);
+            params.put("orderDateFrom", orderSearch.getOrderDateFrom().atStartOfDay());
         }
-        if (StringUtils.hasText(orderSearch.getMemberName())) {
-            query = query.setParameter("name", orderSearch.getMemberName());
+        if (orderSearch.getOrderDateTo() != null) {
+            conditions.add(OrderSearchCondition.ORDER_DATE_TO);
+            params.put("orderDateTo", orderSearch.getOrderDateTo().plusDays(1).atStartOfDay());
+        }
+
+        //주문 상품 검색
+        if (orderSearch.getItemId() != null) {
+            conditions.add(OrderSearchCondition.ITEM);
+            params.put("itemId", orderSearch.getItemId());
+        }
+
+        //주문 금액 검색
+        if (orderSearch.getMinTotalPrice() != null) {
+            conditions.add(OrderSearchCondition.MIN_TOTAL_PRICE);
+            params.put("minTotalPrice", orderSearch.getMinTotalPrice());
+        }
+
+        return conditions;
+    }
+
+    private String where(Set<OrderSearchCondition> conditions) {
+        if (conditions.isEmpty()) {
+            return "";
         }
+        return conditions.stream()
+                .map(OrderSearchCondition::getJpql)
+                .collect(Collectors.joining(" and ", " where ", ""));
+    }
+
+    /**
+     * 주문 검색 (JPQL 문자열 조합) <br>
+     * - 조건 조합마다 매번 JPQL 을 새로 만듦, 조건은 findAll 과 같음
+     */
+    public List<Order> findAllByString(OrderSearch orderSearch) {
+        Map<String, Object> params = new HashMap<>();
+        Set<OrderSearchCondition> conditions = searchConditions(orderSearch, params);
+        if (conditions == null) {
+            return List.of();
+        }
+
+        //language=JPAQL
+        String jpql = "select o From Order o join o.member m" + where(conditions) + " order by o.id";
+
+        TypedQuery<Order> query = em.createQuery(jpql, Order.class)
+                .setFirstResult((int) Math.min((long) orderSearch.getPage() * orderSearch.getSize(), Integer.MAX_VALUE))
+                .setMaxResults(orderSearch.getSize());
+        params.forEach(query::setParameter);
 
         return query.getResultList();
     }
 
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     public List<Order> findAllWithMemberDelivery() {
         return em.createQuery("select o from Order o" +
                         " join fetch o.member" +
@@ -75,7 +203,7 @@ public class OrderRepository {
 
     public List<OrderSimpleQueryDTO> findOrderDTOs() {
         return em.createQuery(
-                "select new jpabook.jpashop.dto.OrderSimpleQueryDTO(o.id, m.name, o.orderDate, o.status, d.address)" +
+                "select new jpabook.jpashop.dto.OrderSimpleQueryDTO(o.id, m.name, o.orderDate, o.status, d.address, o.totalPrice)" +
                         " from Order o" +
                         " join o.member m" +
                         " join o.delivery d", OrderSimpleQueryDTO.class)
@@ -100,4 +228,150 @@ public class OrderRepository {
                 .setMaxResults(limit)
                 .getResultList();
     }
+
+    /**
+     * 커서(keyset) 페이징 : offset 만큼 읽고 버리는 대신 PK 인덱스로 afterId 다음부터 바로 조회
+     */
+    public List<Order> findAllWithMemberDeliveryAfter(Long afterId, int limit) {
+        return em.createQuery("select o from Order o" +
+                " join fetch o.member" +
+                " join fetch o.delivery" +
+                " where o.id > :afterId" +
+                " order by o.id", Order.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public List<Order> findAllAfter(Long afterId, int limit) {
+        return em.createQuery("select o from Order o" +
+                " where o.id > :afterId" +
+                " order by o.id", Order.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 주문 금액, 수량 합계 재계산 (id 범위 단위) <br>
+     * - totalPrice, itemCount 컬럼 추가 전 주문 보정용
+     */
+    public int updateTotals(Long fromId, Long toId) {
+        return em.createQuery("update Order o" +
+                        " set o.totalPrice = (select coalesce(sum(oi.orderPrice * oi.count), 0) from OrderItem oi where oi.order = o)," +
+                        " o.itemCount = (select coalesce(sum(oi.count), 0) from OrderItem oi where oi.order = o)" +
+                        " where o.id between :fromId and :toId")
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .executeUpdate();
+    }
+
+    /**
+     * 취소 대상(주문 상태 ORDER) 주문의 배송 상태, 쿼리 1번 <br>
+     * - 이미 취소된 주문, 없는 주문은 결과에 없음 <br>
+     * - 배송 상태가 아직 없으면 값이 null
+     */
+    public Map<Long, DeliveryStatus> findDeliveryStatusesOfOrdered(Collection<Long> orderIds) {
+        List<Object[]> rows = em.createQuery("select o.id, d.status from Order o" +
+                        " join o.delivery d" +
+                        " where o.id in :orderIds" +
+                        " and o.status = :orderStatus", Object[].class)
+                .setParameter("orderIds", orderIds)
+                .setParameter("orderStatus", OrderStatus.ORDER)
+                .getResultList();
+
+        Map<Long, DeliveryStatus> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], (DeliveryStatus) row[1]);
+        }
+        return result;
+    }
+
+    /**
+     * 주문들의 상품별 주문 수량 합계 (item_id -> 수량)
+     */
+    public Map<Long, Integer> sumCountByItemId(Collection<Long> orderIds) {
+        List<Object[]> rows = em.createQuery("select oi.item.id, sum(oi.count) from OrderItem oi" +
+                        " where oi.order.id in :orderIds" +
+                        " group by oi.item.id", Object[].class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return result;
+    }
+
+    /**
+     * 주문 일괄 취소 : update 1번 <br>
+     * - 조회 이후 다른 요청에서 취소되었거나 배송 완료된 주문은 갱신되지 않음 -> 반환값으로 확인 <br>
+     * - 이미 조회한 대상 주문만 refresh (getReference : 조회한 주문이면 그 엔티티, 아니면 초기화되지 않은 프록시, SQL X)
+     */
+    public int cancelAll(Collection<Long> orderIds) {
+        int updated = em.createQuery("update Order o" +
+                        " set o.status = :cancel" +
+                        " where o.id in :orderIds" +
+                        " and o.status = :orderStatus" +
+                        " and not exists (select d.id from Delivery d where d = o.delivery and d.status = :comp)")
+                .setParameter("cancel", OrderStatus.CANCEL)
+                .setParameter("orderStatus", OrderStatus.ORDER)
+                .setParameter("comp", DeliveryStatus.COMP)
+                .setParameter("orderIds", orderIds)
+                .executeUpdate();
+
+        for (Long orderId : orderIds) {
+            Order order = em.getReference(Order.class, orderId);
+            if (Hibernate.isInitialized(order)) {
+                em.refresh(order);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 주문 이벤트 내용 (outbox payload) : 주문, 주문상품을 조회하지 않고 쿼리 1번 <br>
+     * - 주문상품 단위 row 를 주문 id 순으로 읽어 주문별로 묶음
+     */
+    public List<OrderEventDTO> findOrderEvents(Collection<Long> orderIds) {
+        List<Object[]> rows = em.createQuery("select o.id, o.member.id, o.status, o.orderDate, o.totalPrice, o.itemCount," +
+                        " oi.item.id, oi.orderPrice, oi.count" +
+                        " from Order o" +
+                        " join o.orderItems oi" +
+                        " where o.id in :orderIds" +
+                        " order by o.id, oi.id", Object[].class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        List<OrderEventDTO> result = new ArrayList<>();
+        OrderEventDTO current = null;
+        for (Object[] row : rows) {
+            if (current == null || !current.getOrderId().equals(row[0])) {
+                current = new OrderEventDTO((Long) row[0], (Long) row[1], (OrderStatus) row[2], (LocalDateTime) row[3],
+                        (Integer) row[4], (Integer) row[5]);
+                result.add(current);
+            }
+            current.getOrderLines().add(new OrderEventDTO.OrderLine((Long) row[6], (Integer) row[7], (Integer) row[8]));
+        }
+        return result;
+    }
+
+    public Long findMaxId() {
+        return em.createQuery("select coalesce(max(o.id), 0) from Order o", Long.class)
+                .getSingleResult();
+    }
+
+    /**
+     * 주문일시가 [from, to) 인 주문의 id 범위 {min, max}, 없으면 null (orders.order_date 인덱스)
+     */
+    public Long[] findIdRangeByOrderDate(LocalDateTime from, LocalDateTime to) {
+        Object[] range = em.createQuery("select min(o.id), max(o.id) from Order o" +
+                        " where o.orderDate >= :from and o.orderDate < :to", Object[].class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getSingleResult();
+
+        return range[0] == null ? null : new Long[]{(Long) range[0], (Long) range[1]};
+    }
 }
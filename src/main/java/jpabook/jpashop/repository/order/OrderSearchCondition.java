@@ -0,0 +1,28 @@
+package jpabook.jpashop.repository.order;
+
+/**
+ * 주문 검색 조건 (OrderSearch 의 각 필드에 대응) <br><br>
+ *
+ * - 값은 항상 파라미터로 바인딩 -> 조건 조합(EnumSet) 하나당 쿼리 모양이 하나 <br>
+ * - 조건 조합별 JPQL 은 이름 있는 쿼리로 한 번만 등록 (OrderRepository.findAll)
+ */
+enum OrderSearchCondition {
+
+    STATUS("o.status = :status"),
+    MEMBER_NAME("m.name like :name escape '\\'"),
+    MEMBER_IDS("m.id in :memberIds"),
+    ORDER_DATE_FROM("o.orderDate >= :orderDateFrom"),
+    ORDER_DATE_TO("o.orderDate < :orderDateTo"),
+    ITEM("exists (select oi.id from OrderItem oi where oi.order = o and oi.item.id = :itemId)"),
+    MIN_TOTAL_PRICE("o.totalPrice >= :minTotalPrice");
+
+    private final String jpql;
+
+    OrderSearchCondition(String jpql) {
+        this.jpql = jpql;
+    }
+
+    String getJpql() {
+        return jpql;
+    }
+}
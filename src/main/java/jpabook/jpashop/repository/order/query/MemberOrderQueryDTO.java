@@ -0,0 +1,29 @@
+package jpabook.jpashop.repository.order.query;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jpabook.jpashop.domain.order.OrderStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class MemberOrderQueryDTO {
+
+    private Long orderId;
+    private LocalDateTime orderDate;
+    private OrderStatus orderStatus;
+    private int totalPrice;
+    private int itemCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL) // 주문상품을 요청하지 않으면 생략
+    private List<OrderItemQueryDTO> orderItems;
+
+    public MemberOrderQueryDTO(Long orderId, LocalDateTime orderDate, OrderStatus orderStatus, int totalPrice, int itemCount) {
+        this.orderId = orderId;
+        this.orderDate = orderDate;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+}
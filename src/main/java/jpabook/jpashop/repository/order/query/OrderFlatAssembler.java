@@ -0,0 +1,41 @@
+package jpabook.jpashop.repository.order.query;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 주문 id 순으로 정렬된 플랫 row 를 주문 단위(OrderQueryDTO)로 묶음 <br><br>
+ *
+ * - 주문 id 가 바뀌는 시점에 이전 주문을 consumer 에 넘김 -> 중간 Map, 키 DTO 생성 없이 한 번에 처리 <br>
+ * - 입력 순서(주문 id 순)가 그대로 유지됨
+ */
+class OrderFlatAssembler {
+
+    private final Consumer<OrderQueryDTO> consumer;
+    private OrderQueryDTO current;
+
+    OrderFlatAssembler(Consumer<OrderQueryDTO> consumer) {
+        this.consumer = consumer;
+    }
+
+    void add(OrderFlatDTO row) {
+        if (current == null || !current.getOrderId().equals(row.getOrderId())) {
+            finish();
+            current = new OrderQueryDTO(row.getOrderId(), row.getName(), row.getOrderDate(), row.getOrderStatus(), row.getAddress(), new ArrayList<>());
+        }
+
+        if (row.getCount() != null) { // 주문상품이 없는 주문 (left join) 은 빈 목록
+            current.getOrderItems().add(new OrderItemQueryDTO(row.getOrderId(), row.getItemName(), row.getOrderPrice(), row.getCount()));
+        }
+    }
+
+    /**
+     * 마지막 주문을 넘김
+     */
+    void finish() {
+        if (current != null) {
+            consumer.accept(current);
+            current = null;
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class OrderFlatDTO {
     private OrderStatus orderStatus;
     private Address address;
 
-    private String itemName;
-    private int orderPrice;
-    private int count;
+    private String itemName; // 주문상품이 없는 주문이면 (left join) 주문상품 필드는 null
+    private Integer orderPrice;
+    private Integer count;
 }
@@ -0,0 +1,17 @@
+package jpabook.jpashop.repository.order.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 keyset 페이지 : 주문 목록과 다음 페이지의 after 값 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderQueryPage {
+
+    private final List<OrderQueryDTO> orders;
+    private final Long nextCursor;
+}
@@ -1,17 +1,30 @@
 package jpabook.jpashop.repository.order.query;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderQueryRepository {
 
+    private static final int[] CHUNK_BUCKETS = {16, 64, 256};
+    private static final int MAX_CHUNK_SIZE = 256;
+
     private final EntityManager em;
 
     public List<OrderQueryDTO> findOrderQueryDTOs() {
@@ -35,19 +48,95 @@ public class OrderQueryRepository {
         return result;
     }
 
+    public List<OrderQueryDTO> findAllByDTO_optimization(Long afterId, int limit) {
+        List<OrderQueryDTO> result = findOrders(afterId, limit);
+
+        List<Long> orderIds = toOrderIds(result);
+        Map<Long, List<OrderItemQueryDTO>> orderItemMap = findOrderItemMap(orderIds);
+
+        result.forEach(o -> o.setOrderItems(orderItemMap.get(o.getOrderId())));
+
+        return result;
+    }
+
+    /**
+     * 회원 주문 내역, 최신순 keyset 페이징 <br><br>
+     *
+     * - (member_id, order_date desc, order_id desc) 인덱스 순서대로 읽고 limit 에서 멈춤 -> 페이지 위치와 상관없이 일정한 비용 <br>
+     * - beforeDate, beforeId 가 null 이면 첫 페이지 <br>
+     * - withItems 면 주문상품을 IN 쿼리로 한 번 더 조회 (findOrderItemMap)
+     */
+    public List<MemberOrderQueryDTO> findMemberOrders(Long memberId, LocalDateTime beforeDate, Long beforeId, int limit, boolean withItems) {
+        String keyset = beforeDate == null ? "" :
+                " and (o.orderDate < :beforeDate or (o.orderDate = :beforeDate and o.id < :beforeId))";
+
+        TypedQuery<MemberOrderQueryDTO> query = em.createQuery(
+                        "select new jpabook.jpashop.repository.order.query.MemberOrderQueryDTO(o.id, o.orderDate, o.status, o.totalPrice, o.itemCount)" +
+                                " from Order o" +
+                                " where o.member.id = :memberId" +
+                                keyset +
+                                " order by o.orderDate desc, o.id desc", MemberOrderQueryDTO.class)
+                .setParameter("memberId", memberId)
+                .setMaxResults(limit);
+        if (beforeDate != null) {
+            query.setParameter("beforeDate", beforeDate)
+                    .setParameter("beforeId", beforeId);
+        }
+
+        List<MemberOrderQueryDTO> result = query.getResultList();
+
+        if (withItems && !result.isEmpty()) {
+            Map<Long, List<OrderItemQueryDTO>> orderItemMap = findOrderItemMap(result.stream()
+                    .map(MemberOrderQueryDTO::getOrderId)
+                    .collect(Collectors.toList()));
+            result.forEach(o -> o.setOrderItems(orderItemMap.getOrDefault(o.getOrderId(), List.of())));
+        }
+        return result;
+    }
+
+    /**
+     * 주문 id 들의 주문상품 조회 <br><br>
+     *
+     * - id 를 최대 256 개씩 나누고 16 / 64 / 256 개로 맞춰 채움 -> IN 절 모양이 3가지로 고정되어 쿼리 계획 재사용 <br>
+     * - 조각은 호출한 트랜잭션의 EntityManager 로 차례로 조회 -> 쿼리 수 ceil(n / 256), 커넥션 1개, 요청별 쿼리 집계에 포함
+     */
     private Map<Long, List<OrderItemQueryDTO>> findOrderItemMap(List<Long> orderIds) {
-        List<OrderItemQueryDTO> orderItems = em.createQuery(
-                        "select new jpabook.jpashop.repository.order.query.OrderItemQueryDTO(oi.order.id, i.name, oi.orderPrice, oi.count) " +
-                                " from OrderItem oi" +
-                                " join oi.item i" +
-                                " where oi.order.id in :orderIds", OrderItemQueryDTO.class)
-                .setParameter("orderIds", orderIds)
-                .getResultList();
+        List<OrderItemQueryDTO> orderItems = new ArrayList<>();
+        for (List<Long> chunk : toPaddedChunks(orderIds)) {
+            orderItems.addAll(em.createQuery(
+                            "select new jpabook.jpashop.repository.order.query.OrderItemQueryDTO(oi.order.id, i.name, oi.orderPrice, oi.count) " +
+                                    " from OrderItem oi" +
+                                    " join oi.item i" +
+                                    " where oi.order.id in :orderIds", OrderItemQueryDTO.class)
+                    .setParameter("orderIds", chunk)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList());
+        }
 
         return orderItems.stream()
                 .collect(Collectors.groupingBy(OrderItemQueryDTO::getOrderId));
     }
 
+    static List<List<Long>> toPaddedChunks(List<Long> orderIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < orderIds.size(); from += MAX_CHUNK_SIZE) {
+            List<Long> chunk = new ArrayList<>(orderIds.subList(from, Math.min(from + MAX_CHUNK_SIZE, orderIds.size())));
+
+            int bucket = Arrays.stream(CHUNK_BUCKETS)
+                    .filter(size -> size >= chunk.size())
+                    .findFirst()
+                    .getAsInt();
+            Long last = chunk.get(chunk.size() - 1);
+            while (chunk.size() < bucket) {
+                chunk.add(last); // 중복 id 는 결과에 영향 없음
+            }
+
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
     private List<Long> toOrderIds(List<OrderQueryDTO> result) {
         return result.stream()
                 .map(OrderQueryDTO::getOrderId)
@@ -73,6 +162,19 @@ public class OrderQueryRepository {
                 .getResultList();
     }
 
+    private List<OrderQueryDTO> findOrders(Long afterId, int limit) {
+        return em.createQuery(
+                "select new jpabook.jpashop.repository.order.query.OrderQueryDTO(o.id, m.name, o.orderDate, o.status, d.address)" +
+                        " from Order o" +
+                        " join o.member m" +
+                        " join o.delivery d" +
+                        " where o.id > :afterId" +
+                        " order by o.id", OrderQueryDTO.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     public List<OrderFlatDTO> findAllByDTO_flat() {
         return em.createQuery(
                 "select new jpabook.jpashop.repository.order.query.OrderFlatDTO(o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
@@ -83,4 +185,74 @@ public class OrderQueryRepository {
                         " join oi.item i", OrderFlatDTO.class)
                 .getResultList();
     }
+
+    /**
+     * 플랫 데이터를 전방향 커서로 읽으면서 주문 단위로 묶어 consumer 에 넘김 <br><br>
+     *
+     * - 주문 id 순으로 정렬해서 읽으므로 id 가 바뀌는 시점에 이전 주문이 완성됨 <br>
+     * - 결과 전체를 메모리에 올리지 않음 (한 번에 주문 1건 + fetch size 만큼의 row) <br>
+     * - 커서가 열려 있는 동안 같은 커넥션을 쓰도록 읽기 전용 트랜잭션 안에서 실행
+     */
+    @Transactional(readOnly = true)
+    public void streamAllByDTO_flat(Consumer<OrderQueryDTO> consumer) {
+        try (ScrollableResults<OrderFlatDTO> rows = em.unwrap(Session.class).createQuery(
+                        "select new jpabook.jpashop.repository.order.query.OrderFlatDTO(o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
+                                " from Order o" +
+                                " join o.member m" +
+                                " join o.delivery d" +
+                                " join o.orderItems oi" +
+                                " join oi.item i" +
+                                " order by o.id", OrderFlatDTO.class)
+                .setFetchSize(1000)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            OrderFlatAssembler assembler = new OrderFlatAssembler(consumer);
+            while (rows.next()) {
+                assembler.add(rows.get());
+            }
+            assembler.finish();
+        }
+    }
+
+    /**
+     * 플랫 데이터 페이징 조회 <br><br>
+     *
+     * - 1. 주문 id 만 keyset 으로 limit 건 조회 (PK 인덱스) -> 다음 커서는 이 결과로 결정 <br>
+     * - 2. 해당 주문들의 플랫 row 를 주문 id 순으로 조회 (주문상품이 없는 주문도 포함, left join) <br>
+     * - 3. 정렬된 row 를 한 번 순회하며 OrderQueryDTO 로 묶음 (OrderFlatAssembler)
+     */
+    public OrderQueryPage findAllByDTO_flat(Long afterId, int limit) {
+        List<Long> orderIds = em.createQuery(
+                        "select o.id from Order o" +
+                                " where o.id > :afterId" +
+                                " order by o.id", Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+
+        if (orderIds.isEmpty()) {
+            return new OrderQueryPage(new ArrayList<>(), null);
+        }
+
+        List<OrderFlatDTO> flats = em.createQuery(
+                        "select new jpabook.jpashop.repository.order.query.OrderFlatDTO(o.id, m.name, o.orderDate, o.status, d.address, i.name, oi.orderPrice, oi.count)" +
+                                " from Order o" +
+                                " join o.member m" +
+                                " join o.delivery d" +
+                                " left join o.orderItems oi" +
+                                " left join oi.item i" +
+                                " where o.id in :orderIds" +
+                                " order by o.id", OrderFlatDTO.class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        List<OrderQueryDTO> result = new ArrayList<>(orderIds.size());
+        OrderFlatAssembler assembler = new OrderFlatAssembler(result::add);
+        flats.forEach(assembler::add);
+        assembler.finish();
+
+        Long nextCursor = orderIds.size() < limit ? null : orderIds.get(orderIds.size() - 1);
+        return new OrderQueryPage(result, nextCursor);
+    }
 }
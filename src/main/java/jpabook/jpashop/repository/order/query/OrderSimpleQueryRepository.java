@@ -15,7 +15,7 @@ public class OrderSimpleQueryRepository {
 
     public List<OrderSimpleQueryDTO> findOrderDTOs() {
         return em.createQuery(
-                "select new jpabook.jpashop.dto.OrderSimpleQueryDTO(o.id, m.name, o.orderDate, o.status, d.address)" +
+                "select new jpabook.jpashop.dto.OrderSimpleQueryDTO(o.id, m.name, o.orderDate, o.status, d.address, o.totalPrice)" +
                         " from Order o" +
                         " join o.member m" +
                         " join o.delivery d", OrderSimpleQueryDTO.class)
@@ -0,0 +1,51 @@
+package jpabook.jpashop.repository.outbox;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private final EntityManager em;
+
+    public void save(OutboxEvent event) {
+        em.persist(event);
+    }
+
+    /**
+     * 먼저 쌓인 이벤트부터 limit 개 (id 순 = 발생 순)
+     */
+    public List<OutboxEvent> findBatch(int limit) {
+        return em.createQuery("select e from OutboxEvent e order by e.id", OutboxEvent.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 전송한 이벤트 삭제 : delete 1번
+     */
+    public int deleteAllByIds(List<Long> ids) {
+        return em.createQuery("delete from OutboxEvent e where e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    public long countPending() {
+        return em.createQuery("select count(e) from OutboxEvent e", Long.class)
+                .getSingleResult();
+    }
+
+    /**
+     * 아직 전송하지 않은 가장 오래된 이벤트의 생성 시각, 없으면 null
+     */
+    public LocalDateTime findOldestCreatedAt() {
+        return em.createQuery("select min(e.createdAt) from OutboxEvent e", LocalDateTime.class)
+                .getSingleResult();
+    }
+}
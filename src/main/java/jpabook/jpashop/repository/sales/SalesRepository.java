@@ -0,0 +1,106 @@
+package jpabook.jpashop.repository.sales;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.sales.ItemDailySales;
+import jpabook.jpashop.domain.sales.SalesDelta;
+import jpabook.jpashop.dto.DailySalesDTO;
+import jpabook.jpashop.dto.ItemSalesDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class SalesRepository {
+
+    private final EntityManager em;
+
+    public void saveDelta(SalesDelta delta) {
+        em.persist(delta);
+    }
+
+    public void saveSales(ItemDailySales sales) {
+        em.persist(sales);
+    }
+
+    /**
+     * 주문들의 상품별, 주문일별 판매 합계 (일괄 취소 시 차감할 값) <br>
+     * - 주문상품을 엔티티로 조회하지 않고 group by 쿼리 1번
+     */
+    public List<SalesDelta> sumByItemAndDay(Collection<Long> orderIds) {
+        List<Object[]> rows = em.createQuery("select oi.item.id, cast(o.orderDate as LocalDate), sum(oi.count), sum(oi.orderPrice * oi.count)" +
+                        " from OrderItem oi" +
+                        " join oi.order o" +
+                        " where o.id in :orderIds" +
+                        " group by oi.item.id, cast(o.orderDate as LocalDate)", Object[].class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> SalesDelta.createDelta((Long) row[0], (LocalDate) row[1],
+                        ((Number) row[2]).longValue(), ((Number) row[3]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 집계에 반영할 판매 증감, 먼저 쌓인 것부터 limit 개
+     */
+    public List<SalesDelta> findDeltaBatch(int limit) {
+        return em.createQuery("select d from SalesDelta d order by d.id", SalesDelta.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 반영한 판매 증감 삭제 : id 로 지정 (조회 이후에 커밋된 증감은 남겨둠)
+     */
+    public int deleteDeltas(Collection<Long> ids) {
+        return em.createQuery("delete from SalesDelta d where d.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    public List<ItemDailySales> findSales(Collection<Long> itemIds, Collection<LocalDate> days) {
+        return em.createQuery("select s from ItemDailySales s" +
+                        " where s.itemId in :itemIds" +
+                        " and s.day in :days", ItemDailySales.class)
+                .setParameter("itemIds", itemIds)
+                .setParameter("days", days)
+                .getResultList();
+    }
+
+    /**
+     * 기간 내 매출(또는 판매 수량) 상위 상품 <br>
+     * - item_daily_sales 만 읽으므로 주문 수와 관계없이 (상품 수 x 일 수) 만큼만 조회
+     */
+    public List<ItemSalesDTO> findTopItems(LocalDate from, LocalDate to, int limit, boolean orderByUnits) {
+        return em.createQuery("select new jpabook.jpashop.dto.ItemSalesDTO(s.itemId, i.name, sum(s.units), sum(s.revenue))" +
+                        " from ItemDailySales s" +
+                        " join Item i on i.id = s.itemId" +
+                        " where s.day between :from and :to" +
+                        " group by s.itemId, i.name" +
+                        " order by " + (orderByUnits ? "sum(s.units)" : "sum(s.revenue)") + " desc, s.itemId", ItemSalesDTO.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 기간 내 일별 매출 (item_daily_sales.sales_day 인덱스)
+     */
+    public List<DailySalesDTO> findDailySales(LocalDate from, LocalDate to) {
+        return em.createQuery("select new jpabook.jpashop.dto.DailySalesDTO(s.day, sum(s.units), sum(s.revenue))" +
+                        " from ItemDailySales s" +
+                        " where s.day between :from and :to" +
+                        " group by s.day" +
+                        " order by s.day", DailySalesDTO.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+}
@@ -0,0 +1,72 @@
+package jpabook.jpashop.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 애그리거트별 변경 버전 (조건부 GET 의 ETag / Last-Modified) <br><br>
+ *
+ * - 변경하는 서비스 메서드에서 bumpAfterCommit 호출 -> 커밋된 후에 버전 증가 <br>
+ *   (커밋 전에 올리면 새 버전으로 변경 전 데이터가 캐시될 수 있음) <br>
+ * - 메모리에만 보관 : 재시작하면 epoch 가 바뀌므로 이전 ETag 와 겹치지 않음 <br>
+ * - 서버가 여러 대면 다른 서버의 변경을 알 수 없으므로 버전을 공유 저장소로 옮겨야 함
+ */
+@Component
+public class AggregateVersions {
+
+    public enum Aggregate {
+        ITEM, MEMBER
+    }
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Aggregate, AtomicReference<Version>> versions = new EnumMap<>(Aggregate.class);
+
+    public AggregateVersions() {
+        for (Aggregate aggregate : Aggregate.values()) {
+            versions.put(aggregate, new AtomicReference<>(new Version(0, epoch)));
+        }
+    }
+
+    public Version get(Aggregate aggregate) {
+        return versions.get(aggregate).get();
+    }
+
+    /**
+     * 예) "member-1697612345678-3"
+     */
+    public String etag(Aggregate aggregate, Version version) {
+        return "\"" + aggregate.name().toLowerCase() + "-" + epoch + "-" + version.number() + "\"";
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 버전 증가 (트랜잭션 밖이면 바로)
+     */
+    public void bumpAfterCommit(Aggregate aggregate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(aggregate);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(aggregate);
+            }
+        });
+    }
+
+    private void bump(Aggregate aggregate) {
+        versions.get(aggregate).updateAndGet(v -> new Version(v.number() + 1, System.currentTimeMillis()));
+    }
+
+    /**
+     * @param lastModified 마지막 변경 시각 (epoch millis)
+     */
+    public record Version(long number, long lastModified) {
+    }
+}
@@ -0,0 +1,100 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.item.Category;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.dto.CategoryNode;
+import jpabook.jpashop.repository.category.CategoryRepository;
+import jpabook.jpashop.repository.item.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ItemRepository itemRepository;
+    private final CategoryTreeCache categoryTreeCache;
+
+    /**
+     * 카테고리 등록 <br>
+     * - parentId 가 null 이면 루트 카테고리
+     */
+    @Transactional
+    public Long create(String name, Long parentId) {
+        Category category = new Category();
+        category.setName(name);
+
+        if (parentId != null) {
+            findCategory(parentId).addChildCategory(category);
+        }
+
+        categoryRepository.save(category);
+        category.assignPath();
+
+        categoryTreeCache.invalidateAfterCommit();
+        return category.getId();
+    }
+
+    /**
+     * 카테고리 이동 : 하위 카테고리 전체의 경로를 update 1번으로 변경
+     */
+    @Transactional
+    public void move(Long categoryId, Long newParentId) {
+        Category category = findCategory(categoryId);
+        Category newParent = findCategory(newParentId);
+
+        if (newParent.getPath().startsWith(category.getPath())) {
+            throw new IllegalStateException("하위 카테고리로 이동할 수 없습니다.");
+        }
+
+        String oldPath = category.getPath();
+        if (category.getParent() != null) {
+            category.getParent().getChild().remove(category);
+        }
+        newParent.addChildCategory(category);
+        category.assignPath();
+
+        categoryRepository.updatePath(oldPath, category.getPath());
+        categoryTreeCache.invalidateAfterCommit();
+    }
+
+    @Transactional
+    public void addItem(Long categoryId, Long itemId) {
+        Category category = findCategory(categoryId);
+        Item item = itemRepository.findOne(itemId);
+        if (item == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. itemId=" + itemId);
+        }
+        category.addItem(item);
+    }
+
+    private Category findCategory(Long categoryId) {
+        Category category = categoryRepository.findOne(categoryId);
+        if (category == null) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다. categoryId=" + categoryId);
+        }
+        return category;
+    }
+
+    public List<CategoryNode> findTree() {
+        return categoryTreeCache.getRoots();
+    }
+
+    /**
+     * 하위 카테고리를 포함한 카테고리의 상품 <br>
+     * - 카테고리 경로는 메모리 트리에서 찾고, 상품은 쿼리 1번으로 조회
+     */
+    public List<Item> findSubtreeItems(Long categoryId, int offset, int limit) {
+        CategoryNode node = categoryTreeCache.getNode(categoryId);
+        if (node == null) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+
+        return categoryRepository.findItemsInSubtree(node.getPath(), offset, limit);
+    }
+}
@@ -0,0 +1,109 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.item.Category;
+import jpabook.jpashop.dto.CategoryNode;
+import jpabook.jpashop.repository.category.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리 전체를 메모리에 보관 <br><br>
+ *
+ * - 처음 조회할 때 쿼리 1번으로 적재 <br>
+ * - 카테고리가 변경되면 커밋 후 무효화 -> 다음 조회 때 다시 적재 <br>
+ * - 적재 중에 무효화되면 적재한 트리는 버림 (version)
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Tree tree;
+
+    public List<CategoryNode> getRoots() {
+        return getTree().roots;
+    }
+
+    public CategoryNode getNode(Long categoryId) {
+        return getTree().nodes.get(categoryId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 무효화 (트랜잭션 밖이면 바로)
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        tree = null;
+    }
+
+    private Tree getTree() {
+        Tree current = tree;
+        if (current != null) {
+            return current;
+        }
+
+        long loadVersion = version.get();
+        Tree loaded = load();
+        if (version.get() == loadVersion) {
+            tree = loaded;
+        }
+        return loaded;
+    }
+
+    private Tree load() {
+        Tree loaded = new Tree();
+
+        for (Category category : categoryRepository.findAllOrderByPath()) {
+            CategoryNode node = new CategoryNode(category.getId(), category.getName(), category.getPath());
+            loaded.nodes.put(node.getId(), node);
+
+            CategoryNode parent = loaded.nodes.get(parentId(category.getPath()));
+            if (parent == null) {
+                loaded.roots.add(node);
+            } else {
+                parent.getChildren().add(node);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * /1/5/12/ -> 5, 루트면 null
+     */
+    private Long parentId(String path) {
+        if (path == null) {
+            return null;
+        }
+        String[] ids = path.substring(1).split("/");
+        return ids.length < 2 ? null : Long.valueOf(ids[ids.length - 2]);
+    }
+
+    private static class Tree {
+        private final List<CategoryNode> roots = new ArrayList<>();
+        private final Map<Long, CategoryNode> nodes = new HashMap<>();
+    }
+}
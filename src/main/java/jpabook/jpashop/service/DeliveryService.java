@@ -0,0 +1,83 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.order.DeliveryRepository;
+import jpabook.jpashop.repository.order.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 배송 완료 일괄 처리 <br><br>
+ *
+ * - CHUNK_SIZE 단위로 트랜잭션을 나누어 update -> 한 번에 수만 row 의 락을 잡지 않음 <br>
+ * - 이미 완료된 배송은 다시 갱신하지 않으므로, 중간에 실패해도 같은 요청을 다시 보내면 됨
+ */
+@Slf4j
+@Service
+public class DeliveryService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final DeliveryRepository deliveryRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate tx;
+
+    public DeliveryService(DeliveryRepository deliveryRepository,
+                           OrderRepository orderRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.deliveryRepository = deliveryRepository;
+        this.orderRepository = orderRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 배송 id 로 배송 완료
+     * @return 완료 처리된 배송 수
+     */
+    public int completeDeliveries(List<Long> deliveryIds) {
+        List<Long> ids = new ArrayList<>(new TreeSet<>(deliveryIds)); // 중복 제거, id 순으로 락
+        int updated = 0;
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            Integer count = tx.execute(status -> deliveryRepository.completeAllByIds(chunk));
+            updated += count == null ? 0 : count;
+        }
+
+        log.info("배송 완료 처리 : {}건", updated);
+        return updated;
+    }
+
+    /**
+     * 주문일 [from, to] 인 주문의 배송 완료 <br>
+     * - 주문 id 범위를 CHUNK_SIZE 씩 나누어 update
+     * @return 완료 처리된 배송 수
+     */
+    public int completeDeliveriesByOrderDate(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        Long[] range = orderRepository.findIdRangeByOrderDate(start, end);
+        if (range == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (long fromId = range[0]; fromId <= range[1]; fromId += CHUNK_SIZE) {
+            long chunkFrom = fromId;
+            Integer count = tx.execute(status ->
+                    deliveryRepository.completeAllByOrderDate(chunkFrom, chunkFrom + CHUNK_SIZE - 1, start, end));
+            updated += count == null ? 0 : count;
+        }
+
+        log.info("배송 완료 처리 ({} ~ {}) : {}건", from, to, updated);
+        return updated;
+    }
+}
@@ -3,6 +3,7 @@ package jpabook.jpashop.service;
 import jpabook.jpashop.domain.item.Item;
 import jpabook.jpashop.repository.item.ItemRepository;
 import jpabook.jpashop.dto.UpdateItemDTO;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,16 +15,28 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemService {
     private final ItemRepository itemRepository;
+    private final AggregateVersions aggregateVersions;
 
     @Transactional
     public void saveItem(Item item) {
         itemRepository.save(item);
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM);
     }
 
     @Transactional
     public void updateItem(Long itemId, UpdateItemDTO itemDTO) {
         Item findItem = itemRepository.findOne(itemId);
         findItem.changeItem(itemDTO);
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM);
+    }
+
+    /**
+     * 재고 분할 : 주문이 몰리는 상품의 재고를 shardCount 개의 버킷 row 로 나눔
+     */
+    @Transactional
+    public void shardStock(Long itemId, int shardCount) {
+        Item findItem = itemRepository.findOne(itemId);
+        findItem.shardStock(shardCount);
     }
 
     public List<Item> findItems() {
@@ -2,6 +2,7 @@ package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.member.Member;
 import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +15,7 @@ import java.util.List;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final AggregateVersions aggregateVersions;
 
     /**
      * 회원 가입
@@ -23,6 +25,7 @@ public class MemberService {
         validateDuplicateMember(member); // 중복 회원 검증
 
         memberRepository.save(member);
+        aggregateVersions.bumpAfterCommit(Aggregate.MEMBER);
         return member.getId();
     }
 
@@ -49,5 +52,6 @@ public class MemberService {
     public void update(Long id, String name) {
         Member member = memberRepository.findOne(id);
         member.setName(name);
+        aggregateVersions.bumpAfterCommit(Aggregate.MEMBER);
     }
 }
@@ -0,0 +1,156 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.DeliveryStatus;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import jpabook.jpashop.dto.BulkOrderDTO;
+import jpabook.jpashop.dto.OrderLineDTO;
+import jpabook.jpashop.outbox.OrderEventWriter;
+import jpabook.jpashop.repository.item.ItemRepository;
+import jpabook.jpashop.repository.member.MemberRepository;
+import jpabook.jpashop.repository.order.OrderRepository;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.*;
+
+/**
+ * 대량 주문 등록, 일괄 취소 <br><br>
+ *
+ * - CHUNK_SIZE 건마다 flush / clear -> 영속성 컨텍스트가 주문 수만큼 커지지 않음 <br>
+ * - insert 는 hibernate.jdbc.batch_size, order_inserts 설정으로 묶어서 전송 <br>
+ * - id 는 시퀀스 allocationSize 만큼 미리 할당받아 사용 (insert 마다 시퀀스 조회X) <br>
+ * - 재고는 청크 단위로 상품별 수량을 합산해 상품마다 update 1번 <br>
+ * - 주문 이벤트(outbox)도 주문과 같이 배치 insert
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OrderBulkService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager em;
+    private final OrderRepository orderRepository;
+    private final MemberRepository memberRepository;
+    private final ItemRepository itemRepository;
+    private final OrderEventWriter orderEventWriter;
+    private final SalesService salesService;
+    private final AggregateVersions aggregateVersions;
+
+    /**
+     * 대량 주문 <br>
+     * - 전체가 하나의 트랜잭션, 중간에 재고가 부족하거나 없는 회원, 상품이 있으면 모두 롤백
+     */
+    public int bulkOrder(List<BulkOrderDTO> orders) {
+        for (int from = 0; from < orders.size(); from += CHUNK_SIZE) {
+            saveChunk(orders.subList(from, Math.min(from + CHUNK_SIZE, orders.size())));
+
+            em.flush();
+            em.clear();
+        }
+
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM); // 재고 변경
+
+        return orders.size();
+    }
+
+    /**
+     * 주문 일괄 취소 : 하나의 트랜잭션 <br><br>
+     *
+     * - 배송 완료 여부는 CHUNK_SIZE 건마다 쿼리 1번으로 확인, 배송 완료된 주문이 있으면 전체 취소 불가 <br>
+     * - 이미 취소된 주문은 건너뜀 (재고를 두 번 복구하지 않음) <br>
+     * - 주문 상태는 update 1번, 취소 이벤트 내용은 조회 1번 (청크마다), 재고는 상품별 수량을 합산해 상품마다 update 1번 (상품 id 순)
+     * @return 취소된 주문 수
+     */
+    public int cancelOrders(List<Long> orderIds) {
+        List<Long> ids = new ArrayList<>(new TreeSet<>(orderIds));
+        List<Long> canceledIds = new ArrayList<>();
+        Map<Long, Integer> countByItemId = new TreeMap<>();
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+
+            Map<Long, DeliveryStatus> deliveryStatuses = orderRepository.findDeliveryStatusesOfOrdered(chunk);
+            deliveryStatuses.forEach((orderId, deliveryStatus) -> {
+                if (deliveryStatus == DeliveryStatus.COMP) {
+                    throw new IllegalStateException("이미 배송 완료된 상품은 취소가 불가능합니다. orderId=" + orderId);
+                }
+            });
+            if (deliveryStatuses.isEmpty()) {
+                continue;
+            }
+
+            Set<Long> targetIds = deliveryStatuses.keySet();
+            if (orderRepository.cancelAll(targetIds) != targetIds.size()) {
+                throw new IllegalStateException("다른 요청에서 변경된 주문이 있습니다.");
+            }
+
+            salesService.recordCanceledOrders(targetIds);
+            orderEventWriter.ordersCanceled(orderRepository.findOrderEvents(targetIds));
+            orderRepository.sumCountByItemId(targetIds)
+                    .forEach((itemId, count) -> countByItemId.merge(itemId, count, Integer::sum));
+            canceledIds.addAll(targetIds);
+        }
+
+        countByItemId.forEach(itemRepository::addStock);
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM);
+
+        return canceledIds.size();
+    }
+
+    private void saveChunk(List<BulkOrderDTO> chunk) {
+        Map<Long, Integer> countByItemId = chunk.stream()
+                .flatMap(o -> o.getOrderLines().stream())
+                .collect(groupingBy(OrderLineDTO::getItemId, TreeMap::new, summingInt(OrderLineDTO::getCount)));
+
+        countByItemId.forEach(itemRepository::removeStock); // 상품 id 순으로 재고 차감
+
+        Map<Long, Member> memberMap = memberRepository.findAllByIds(chunk.stream()
+                        .map(BulkOrderDTO::getMemberId)
+                        .collect(toSet())).stream()
+                .collect(toMap(Member::getId, Function.identity()));
+
+        Map<Long, Item> itemMap = itemRepository.findAllByIds(countByItemId.keySet()).stream()
+                .collect(toMap(Item::getId, Function.identity()));
+
+        List<Order> savedOrders = new ArrayList<>();
+        for (BulkOrderDTO orderDTO : chunk) {
+            Member member = memberMap.get(orderDTO.getMemberId());
+            if (member == null) {
+                throw new IllegalArgumentException("존재하지 않는 회원입니다. memberId=" + orderDTO.getMemberId());
+            }
+
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+
+            OrderItem[] orderItems = orderDTO.getOrderLines().stream()
+                    .map(line -> {
+                        Item item = itemMap.get(line.getItemId());
+                        return OrderItem.createReservedOrderItem(item, item.getPrice(), line.getCount());
+                    })
+                    .toArray(OrderItem[]::new);
+
+            Order order = Order.createOrder(member, delivery, orderItems);
+            orderRepository.save(order);
+            orderEventWriter.orderPlaced(order);
+            savedOrders.add(order);
+        }
+
+        salesService.recordOrders(savedOrders); // 청크 안에서 상품별로 합쳐서 기록
+    }
+}
@@ -1,16 +1,24 @@
 package jpabook.jpashop.service;
 
 import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.dto.OrderLineDTO;
 import jpabook.jpashop.repository.item.ItemRepository;
 import jpabook.jpashop.domain.member.Member;
 import jpabook.jpashop.repository.member.MemberRepository;
 import jpabook.jpashop.domain.order.*;
+import jpabook.jpashop.outbox.OrderEventWriter;
 import jpabook.jpashop.repository.order.OrderRepository;
+import jpabook.jpashop.service.AggregateVersions.Aggregate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.*;
 
 @Service
 @Transactional(readOnly = true)
@@ -20,38 +28,101 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
+    private final OrderEventWriter orderEventWriter;
+    private final SalesService salesService;
+    private final AggregateVersions aggregateVersions;
 
     /**
-     * 주문
+     * 주문 <br>
+     * - 주문 이벤트는 같은 트랜잭션에서 outbox 에 기록 (외부 시스템 전송은 OutboxRelay) <br>
+     * - 판매 집계는 증감만 기록 (집계 반영은 SalesRollupJob)
      */
     @Transactional
     public Long order(Long memberId, Long itemId, int count) {
-        Member member = memberRepository.findOne(memberId);
+        Member member = findMember(memberId); // 재고를 차감하기 전에 확인
+
+        itemRepository.removeStock(itemId, count); // 조건부 update 로 재고 차감
         Item item = itemRepository.findOne(itemId);
 
         Delivery delivery = new Delivery();
         delivery.setAddress(member.getAddress());
 
-        OrderItem orderItem = OrderItem.createOrderItem(item, item.getPrice(), count);
+        OrderItem orderItem = OrderItem.createReservedOrderItem(item, item.getPrice(), count);
 
         Order order = Order.createOrder(member, delivery, orderItem);
         orderRepository.save(order);
+        orderEventWriter.orderPlaced(order);
+        salesService.recordOrder(order);
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM); // 재고 변경
 
         return order.getId();
     }
 
+    /**
+     * 여러 상품 주문 : 주문 1건에 주문상품 여러 개 <br><br>
+     *
+     * - 같은 상품의 주문 라인은 하나로 합침 <br>
+     * - 상품 id 순으로 재고 차감 -> 동시 주문끼리 서로 다른 순서로 row 락을 잡아 데드락이 나는 것을 방지 <br>
+     * - 상품은 IN 쿼리 한 번으로 조회
+     */
+    @Transactional
+    public Long order(Long memberId, List<OrderLineDTO> orderLines) {
+        Member member = findMember(memberId); // 재고를 차감하기 전에 확인
+
+        Map<Long, Integer> countByItemId = orderLines.stream()
+                .collect(groupingBy(OrderLineDTO::getItemId, TreeMap::new, summingInt(OrderLineDTO::getCount)));
+
+        countByItemId.forEach(itemRepository::removeStock); // 조건부 update 로 재고 차감
+
+        Map<Long, Item> itemMap = itemRepository.findAllByIds(countByItemId.keySet()).stream()
+                .collect(toMap(Item::getId, Function.identity()));
+
+        OrderItem[] orderItems = countByItemId.entrySet().stream()
+                .map(e -> {
+                    Item item = itemMap.get(e.getKey());
+                    return OrderItem.createReservedOrderItem(item, item.getPrice(), e.getValue());
+                })
+                .toArray(OrderItem[]::new);
+
+        Delivery delivery = new Delivery();
+        delivery.setAddress(member.getAddress());
+
+        Order order = Order.createOrder(member, delivery, orderItems);
+        orderRepository.save(order);
+        orderEventWriter.orderPlaced(order);
+        salesService.recordOrder(order);
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM); // 재고 변경
+
+        return order.getId();
+    }
+
+    private Member findMember(Long memberId) {
+        Member member = memberRepository.findOne(memberId);
+        if (member == null) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다. memberId=" + memberId);
+        }
+        return member;
+    }
+
     /**
      * 주문 취소
      */
     @Transactional
     public void cancelOrder(Long orderId) {
         Order order = orderRepository.findOne(orderId);
-        order.cancel();
+        order.cancel(itemRepository::addStock);
+
+        orderEventWriter.orderCanceled(order);
+        salesService.recordCancel(order);
+        aggregateVersions.bumpAfterCommit(Aggregate.ITEM);
     }
 
     // 검색
     public List<Order> findOrders(OrderSearch orderSearch) {
-//        return orderRepository.findAll(orderSearch);
-        return orderRepository.findAllByString(orderSearch);
+        return orderRepository.findAll(orderSearch);
+    }
+
+    public long countOrders(OrderSearch orderSearch) {
+        return orderRepository.count(orderSearch);
     }
 }
@@ -0,0 +1,45 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.repository.order.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 주문의 totalPrice, itemCount 채우기 (1회성) <br><br>
+ *
+ * - jpashop.backfill.order-totals=true 로 실행 <br>
+ * - 컬럼 추가 전 주문은 DB 기본값 0 (NOT NULL) 이므로 보정 전에도 조회는 실패하지 않음 <br>
+ * - 빈 초기화 직후, 웹 서버와 스케줄러가 시작되기 전에 실행 -> 보정 전 합계가 응답에 나가지 않음 <br>
+ * - id 범위 CHUNK_SIZE 단위로 트랜잭션을 나누어 update -> 락을 오래 잡지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jpashop.backfill.order-totals", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderTotalBackfillJob implements SmartInitializingSingleton {
+
+    private static final long CHUNK_SIZE = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long maxId = orderRepository.findMaxId();
+        long updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            long from = fromId;
+            Integer count = tx.execute(status -> orderRepository.updateTotals(from, from + CHUNK_SIZE - 1));
+            updated += count == null ? 0 : count;
+        }
+
+        log.info("주문 합계 보정 완료 : {}건", updated);
+    }
+}
@@ -0,0 +1,9 @@
+package jpabook.jpashop.service;
+
+import java.time.LocalDate;
+
+/**
+ * 판매 집계 단위 (상품, 일자)
+ */
+record SalesKey(Long itemId, LocalDate day) {
+}
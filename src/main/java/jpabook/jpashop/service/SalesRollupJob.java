@@ -0,0 +1,115 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.sales.ItemDailySales;
+import jpabook.jpashop.domain.sales.SalesDelta;
+import jpabook.jpashop.repository.sales.SalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 증감을 집계 테이블에 반영 (micro-batch) <br><br>
+ *
+ * - 주기마다 BATCH_SIZE 개씩 조회 -> (상품, 일자)별로 합산 -> 집계 row 마다 1번 갱신 (JDBC 배치) <br>
+ * - 반영한 증감은 id 로 삭제, 다른 곳에서 먼저 가져갔으면 (삭제 건수 불일치) 롤백 -> 두 번 더하지 않음 <br>
+ * - 집계 row 는 이 작업만 갱신하므로 주문 트랜잭션과 락 경합이 없음
+ */
+@Slf4j
+@Component
+public class SalesRollupJob {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final SalesRepository salesRepository;
+    private final TransactionTemplate tx;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SalesRollupJob(SalesRepository salesRepository, PlatformTransactionManager transactionManager) {
+        this.salesRepository = salesRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${jpashop.sales.rollup-interval-ms:5000}")
+    public void scheduledRollup() {
+        rollup();
+    }
+
+    /**
+     * @return 반영한 판매 증감 수
+     */
+    public int rollup() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        int rolledUp = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                Integer count = tx.execute(status -> rollupBatch());
+                rolledUp += count == null ? 0 : count;
+
+                if (count == null || count < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("판매 집계 실패, 다음 주기에 다시 반영합니다.", e);
+        } finally {
+            running.set(false);
+        }
+        return rolledUp;
+    }
+
+    private int rollupBatch() {
+        List<SalesDelta> deltas = salesRepository.findDeltaBatch(BATCH_SIZE);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = salesRepository.deleteDeltas(deltas.stream()
+                .map(SalesDelta::getId)
+                .collect(Collectors.toList()));
+        if (deleted != deltas.size()) {
+            throw new IllegalStateException("다른 작업에서 반영 중인 판매 증감이 있습니다.");
+        }
+
+        Map<SalesKey, long[]> sums = new LinkedHashMap<>();
+        for (SalesDelta delta : deltas) {
+            long[] sum = sums.computeIfAbsent(new SalesKey(delta.getItemId(), delta.getDay()), k -> new long[2]);
+            sum[0] += delta.getUnits();
+            sum[1] += delta.getRevenue();
+        }
+
+        Set<Long> itemIds = sums.keySet().stream().map(SalesKey::itemId).collect(Collectors.toSet());
+        Set<LocalDate> days = sums.keySet().stream().map(SalesKey::day).collect(Collectors.toSet());
+
+        Map<SalesKey, ItemDailySales> salesMap = new HashMap<>();
+        for (ItemDailySales sales : salesRepository.findSales(itemIds, days)) {
+            salesMap.put(new SalesKey(sales.getItemId(), sales.getDay()), sales);
+        }
+
+        sums.forEach((key, sum) -> {
+            ItemDailySales sales = salesMap.get(key);
+            if (sales == null) {
+                sales = ItemDailySales.createSales(key.itemId(), key.day());
+                salesRepository.saveSales(sales);
+            }
+            sales.add(sum[0], sum[1]); // 변경 감지 -> 커밋 시 update 를 묶어서 전송
+        });
+
+        return deltas.size();
+    }
+}
@@ -0,0 +1,84 @@
+package jpabook.jpashop.service;
+
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import jpabook.jpashop.domain.sales.SalesDelta;
+import jpabook.jpashop.dto.DailySalesDTO;
+import jpabook.jpashop.dto.ItemSalesDTO;
+import jpabook.jpashop.repository.sales.SalesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매 집계 <br><br>
+ *
+ * - 주문, 취소 시 판매 증감(SalesDelta)만 insert, 집계 테이블 반영은 SalesRollupJob <br>
+ * - 조회는 집계 테이블(ItemDailySales)만 읽음 -> 최대 집계 주기만큼 늦게 반영됨
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SalesService {
+
+    private final SalesRepository salesRepository;
+
+    @Transactional
+    public void recordOrder(Order order) {
+        recordOrders(List.of(order));
+    }
+
+    /**
+     * 여러 주문의 판매 기록 : 상품, 주문일이 같으면 하나로 합쳐서 insert
+     */
+    @Transactional
+    public void recordOrders(Collection<Order> orders) {
+        Map<SalesKey, long[]> sums = new LinkedHashMap<>();
+        for (Order order : orders) {
+            LocalDate day = order.getOrderDate().toLocalDate();
+            for (OrderItem orderItem : order.getOrderItems()) {
+                long[] sum = sums.computeIfAbsent(new SalesKey(orderItem.getItem().getId(), day), k -> new long[2]);
+                sum[0] += orderItem.getCount();
+                sum[1] += orderItem.getTotalPrice();
+            }
+        }
+
+        sums.forEach((key, sum) -> salesRepository.saveDelta(SalesDelta.createDelta(key.itemId(), key.day(), sum[0], sum[1])));
+    }
+
+    /**
+     * 주문 취소 : 주문일의 판매에서 차감
+     */
+    @Transactional
+    public void recordCancel(Order order) {
+        LocalDate day = order.getOrderDate().toLocalDate();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            salesRepository.saveDelta(SalesDelta.createDelta(orderItem.getItem().getId(), day,
+                    -orderItem.getCount(), -(long) orderItem.getTotalPrice()));
+        }
+    }
+
+    /**
+     * 일괄 취소 : 주문을 조회하지 않고 상품, 주문일별 합계를 쿼리 1번으로 구해서 차감
+     */
+    @Transactional
+    public void recordCanceledOrders(Collection<Long> orderIds) {
+        for (SalesDelta sum : salesRepository.sumByItemAndDay(orderIds)) {
+            salesRepository.saveDelta(SalesDelta.createDelta(sum.getItemId(), sum.getDay(), -sum.getUnits(), -sum.getRevenue()));
+        }
+    }
+
+    public List<ItemSalesDTO> findTopItems(LocalDate from, LocalDate to, int limit, boolean orderByUnits) {
+        return salesRepository.findTopItems(from, to, limit, orderByUnits);
+    }
+
+    public List<DailySalesDTO> findDailySales(LocalDate from, LocalDate to) {
+        return salesRepository.findDailySales(from, to);
+    }
+}
@@ -0,0 +1,58 @@
+package jpabook.jpashop.api;
+
+import jpabook.jpashop.service.CategoryService;
+import jpabook.jpashop.service.CategoryTreeCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class CategoryApiTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired CategoryService categoryService;
+    @Autowired CategoryTreeCache categoryTreeCache;
+
+    @AfterEach
+    void tearDown() {
+        // 롤백된 카테고리가 트리에 남지 않도록
+        categoryTreeCache.invalidate();
+    }
+
+    @Test
+    @DisplayName("카테고리 상품_page, size 범위 밖이면 400")
+    void pageAndSizeBoundaries() throws Exception {
+        // given
+        Long categoryId = categoryService.create("도서", null);
+        String url = "/api/categories/" + categoryId + "/items";
+
+        // then
+        mockMvc.perform(get(url).param("page", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("size", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("size", String.valueOf(CategoryApiController.MAX_PAGE_SIZE + 1))).andExpect(status().isBadRequest());
+
+        mockMvc.perform(get(url).param("size", String.valueOf(CategoryApiController.MAX_PAGE_SIZE))).andExpect(status().isOk());
+        mockMvc.perform(get(url).param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "1")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("카테고리 등록_존재하지 않는 상위 카테고리는 400")
+    void unknownParent() throws Exception {
+        mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"IT\",\"parentId\":-1}"))
+                .andExpect(status().isBadRequest());
+    }
+}
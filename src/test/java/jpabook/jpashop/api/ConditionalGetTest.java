@@ -0,0 +1,80 @@
+package jpabook.jpashop.api;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 가입이 커밋되어야 버전이 바뀌므로 @Transactional 롤백X -> 가입한 회원은 테스트 후 삭제
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired MockMvc mockMvc;
+    @Autowired MemberService memberService;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    Long memberId;
+
+    @AfterEach
+    void tearDown() {
+        if (memberId != null) {
+            transactionTemplate.executeWithoutResult(status -> em.remove(em.find(Member.class, memberId)));
+        }
+    }
+
+    @Test
+    @DisplayName("회원 목록 조건부 GET")
+    void membersV2() throws Exception {
+        String etag = mockMvc.perform(get("/api/v2/members"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 변경 없음 -> 304
+        mockMvc.perform(get("/api/v2/members").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 회원 가입 -> 버전 증가 -> 200
+        Member member = new Member();
+        member.setName("회원-" + UUID.randomUUID());
+        memberId = memberService.join(member);
+
+        String newEtag = mockMvc.perform(get("/api/v2/members").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조건부 GET")
+    void items() throws Exception {
+        for (String url : new String[]{"/items", "/api/v2/items"}) {
+            String etag = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문 커서 페이징 (/api/v2/simple-orders, /api/v3.1/orders, /api/v5/orders, /api/v7/orders) <br>
+ * - 테스트에서 만든 주문이 가장 큰 id 이므로 첫 주문 id - 1 부터 조회
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class CursorPagingTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+
+    List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member();
+        member.setName("커서회원");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(100);
+        em.persist(book);
+
+        for (int i = 0; i < 5; i++) {
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+            Order order = Order.createOrder(member, delivery, OrderItem.createReservedOrderItem(book, 10000, 1));
+            em.persist(order);
+            orderIds.add(order.getId());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v2/simple-orders", "/api/v3.1/orders", "/api/v5/orders", "/api/v7/orders"})
+    @DisplayName("첫 페이지 -> 다음 페이지 -> 마지막 페이지 (nextCursor null)")
+    void pages(String url) throws Exception {
+        long first = orderIds.get(0) - 1;
+
+        JsonNode page1 = page(url, first, 2);
+        assertThat(orderIdsOf(page1)).containsExactly(orderIds.get(0), orderIds.get(1));
+        assertThat(page1.get("nextCursor").asLong()).isEqualTo(orderIds.get(1));
+
+        JsonNode page2 = page(url, page1.get("nextCursor").asLong(), 2);
+        assertThat(orderIdsOf(page2)).containsExactly(orderIds.get(2), orderIds.get(3));
+
+        JsonNode page3 = page(url, page2.get("nextCursor").asLong(), 2);
+        assertThat(orderIdsOf(page3)).containsExactly(orderIds.get(4));
+        assertThat(page3.get("nextCursor").isNull()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v2/simple-orders", "/api/v3.1/orders", "/api/v5/orders", "/api/v7/orders"})
+    @DisplayName("남은 주문 수와 limit 이 같으면 다음 페이지는 빈 마지막 페이지")
+    void exactLastPage(String url) throws Exception {
+        JsonNode full = page(url, orderIds.get(0) - 1, 5);
+        assertThat(orderIdsOf(full)).hasSize(5);
+        assertThat(full.get("nextCursor").asLong()).isEqualTo(orderIds.get(4));
+
+        JsonNode empty = page(url, full.get("nextCursor").asLong(), 5);
+        assertThat(empty.get("data").size()).isZero();
+        assertThat(empty.get("nextCursor").isNull()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v2/simple-orders", "/api/v3.1/orders", "/api/v5/orders", "/api/v7/orders"})
+    @DisplayName("limit 범위 : 1 ~ MAX_LIMIT, 벗어나면 400")
+    void limitBoundaries(String url) throws Exception {
+        for (int limit : new int[]{0, -1, CursorResult.MAX_LIMIT + 1}) {
+            mockMvc.perform(get(url).param("after", "0").param("limit", String.valueOf(limit)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(get(url).param("after", "0").param("limit", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(url).param("after", "0").param("limit", String.valueOf(CursorResult.MAX_LIMIT)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("v7 : 주문상품이 없는 주문도 페이지에 포함되고 다음 커서가 이어짐")
+    void v7OrderWithoutItems() throws Exception {
+        // given
+        Member member = em.find(Order.class, orderIds.get(0)).getMember();
+        Delivery emptyDelivery = new Delivery();
+        emptyDelivery.setAddress(member.getAddress());
+        Order empty = Order.createOrder(member, emptyDelivery);
+        em.persist(empty);
+
+        Item item = em.find(Order.class, orderIds.get(0)).getOrderItems().get(0).getItem();
+        Delivery delivery = new Delivery();
+        delivery.setAddress(member.getAddress());
+        Order last = Order.createOrder(member, delivery, OrderItem.createReservedOrderItem(item, 10000, 1));
+        em.persist(last);
+        em.flush();
+        em.clear();
+
+        // when
+        JsonNode page1 = page("/api/v7/orders", orderIds.get(4), 1);
+        JsonNode page2 = page("/api/v7/orders", page1.get("nextCursor").asLong(), 1);
+
+        // then
+        assertThat(orderIdsOf(page1)).containsExactly(empty.getId());
+        assertThat(page1.get("data").get(0).get("orderItems").size()).isZero();
+        assertThat(page1.get("nextCursor").asLong()).isEqualTo(empty.getId());
+        assertThat(orderIdsOf(page2)).containsExactly(last.getId());
+    }
+
+    private JsonNode page(String url, long after, int limit) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(url)
+                        .param("after", String.valueOf(after))
+                        .param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+    }
+
+    private List<Long> orderIdsOf(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("data").forEach(o -> ids.add(o.get("orderId").asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,126 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 주문 내역 커서 페이징 (/api/v2/members/{id}/orders) <br>
+ * - 주문일시가 같은 주문은 주문 id 역순으로 이어짐
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class MemberOrdersPagingTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+
+    Long memberId;
+    List<Long> orderIds = new ArrayList<>(); // 최신순
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member();
+        member.setName("페이징회원");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+        memberId = member.getId();
+
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(100);
+        em.persist(book);
+
+        LocalDateTime latest = LocalDateTime.of(2024, 1, 2, 10, 0);
+        LocalDateTime tie = LocalDateTime.of(2024, 1, 1, 10, 0);
+        List<LocalDateTime> orderDates = List.of(tie, tie, latest, tie, tie);
+
+        List<Order> orders = new ArrayList<>();
+        for (LocalDateTime orderDate : orderDates) {
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+            Order order = Order.createOrder(member, delivery, OrderItem.createReservedOrderItem(book, 10000, 1));
+            order.setOrderDate(orderDate);
+            em.persist(order);
+            orders.add(order);
+        }
+        em.flush();
+        em.clear();
+
+        orders.stream()
+                .sorted(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId).reversed())
+                .forEach(o -> orderIds.add(o.getId()));
+    }
+
+    @Test
+    @DisplayName("주문일시가 같은 주문이 페이지 경계에 걸쳐도 빠지거나 중복되지 않음")
+    void pagesWithTies() throws Exception {
+        // when
+        List<Long> fetched = new ArrayList<>();
+        JsonNode page = read(get("/api/v2/members/{id}/orders", memberId).param("limit", "2"));
+        int pages = 1;
+        page.get("data").forEach(o -> fetched.add(o.get("orderId").asLong()));
+
+        while (!page.get("nextOrderId").isNull()) {
+            page = read(get("/api/v2/members/{id}/orders", memberId)
+                    .param("limit", "2")
+                    .param("beforeDate", page.get("nextOrderDate").asText())
+                    .param("beforeId", page.get("nextOrderId").asText()));
+            page.get("data").forEach(o -> fetched.add(o.get("orderId").asLong()));
+            pages++;
+        }
+
+        // then
+        assertThat(fetched).containsExactlyElementsOf(orderIds);
+        assertThat(pages).isEqualTo(3); // 2 + 2 + 1
+    }
+
+    @Test
+    @DisplayName("limit 범위, 커서 파라미터 검증")
+    void invalidParameters() throws Exception {
+        mockMvc.perform(get("/api/v2/members/{id}/orders", memberId).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v2/members/{id}/orders", memberId).param("limit", String.valueOf(MemberApiController.MAX_ORDERS_LIMIT + 1)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v2/members/{id}/orders", memberId).param("beforeId", String.valueOf(orderIds.get(0))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v2/members/{id}/orders", memberId).param("limit", String.valueOf(MemberApiController.MAX_ORDERS_LIMIT)))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,33 @@
+package jpabook.jpashop.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @QueryBudget 을 넘는 쿼리가 실행되면 QueryBudgetExceededException 으로 테스트 실패
+ */
+@SpringBootTest(properties = "jpashop.query-count.enforce-budget=true")
+@AutoConfigureMockMvc
+class OrderApiQueryBudgetTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v3/orders", "/api/v5/orders", "/api/v6/orders", "/api/v7/orders",
+            "/api/v3/simple-orders", "/api/v4/simple-orders", "/api/v2/members/1/orders?includeItems=true"})
+    @DisplayName("주문 조회 쿼리 수")
+    void queryBudget(String url) throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Query-Count"));
+    }
+}
@@ -0,0 +1,78 @@
+package jpabook.jpashop.api;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class OrderApiTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired MockMvc mockMvc;
+
+    Member member;
+    Book book;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member();
+        member.setName("주문회원");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+
+        book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(10);
+        em.persist(book);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("주문 등록_존재하지 않는 회원은 400, 재고 변화 없음")
+    void unknownMember() throws Exception {
+        mockMvc.perform(post("/api/v2/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(-1L, book.getId(), 2)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("존재하지 않는 회원입니다. memberId=-1"));
+
+        em.refresh(book);
+        assertThat(book.getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("주문 등록")
+    void order() throws Exception {
+        mockMvc.perform(post("/api/v2/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(member.getId(), book.getId(), 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").isNumber());
+
+        em.refresh(book);
+        assertThat(book.getStockQuantity()).isEqualTo(8);
+    }
+
+    private String body(Long memberId, Long itemId, int count) {
+        return "{\"memberId\":" + memberId + ",\"orderLines\":[{\"itemId\":" + itemId + ",\"count\":" + count + "}]}";
+    }
+}
@@ -0,0 +1,93 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class OrderExportTest {
+
+    private static final int ITEMS_PER_ORDER = 400; // 주문 3건 = 1200 row -> fetch size(1000) 경계가 세 번째 주문 중간
+
+    @PersistenceContext EntityManager em;
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("NDJSON 내보내기 : 주문 1건당 한 줄, fetch 경계를 넘는 주문도 주문상품이 한 줄에 모임")
+    void exportOrders() throws Exception {
+        // given
+        Member member = new Member();
+        member.setName("내보내기회원");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        em.persist(book);
+
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+            OrderItem[] orderItems = IntStream.range(0, ITEMS_PER_ORDER)
+                    .mapToObj(j -> OrderItem.createReservedOrderItem(book, 10000, 1))
+                    .toArray(OrderItem[]::new);
+            Order order = Order.createOrder(member, delivery, orderItems);
+            em.persist(order);
+            orderIds.add(order.getId());
+        }
+        em.flush();
+        em.clear();
+
+        long ordersWithItems = em.createQuery("select count(distinct o) from Order o join o.orderItems oi", Long.class)
+                .getSingleResult();
+
+        // when
+        String body = mockMvc.perform(get("/api/orders/export.ndjson"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize((int) ordersWithItems);
+
+        Map<Long, JsonNode> byOrderId = new HashMap<>();
+        for (String line : lines) {
+            JsonNode order = objectMapper.readTree(line);
+            assertThat(byOrderId.put(order.get("orderId").asLong(), order)).isNull(); // 주문이 두 줄로 나뉘지 않음
+        }
+
+        for (Long orderId : orderIds) {
+            assertThat(byOrderId.get(orderId).get("orderItems").size()).isEqualTo(ITEMS_PER_ORDER);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package jpabook.jpashop.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.order.OrderStatus;
+import jpabook.jpashop.repository.order.query.OrderItemQueryDTO;
+import jpabook.jpashop.repository.order.query.OrderQueryDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderStreamingTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("직접 작성한 직렬화 결과가 기본 직렬화와 같음")
+    void sameAsBeanSerializer() throws Exception {
+        OrderQueryDTO order = new OrderQueryDTO(1L, "회원1", LocalDateTime.of(2023, 1, 2, 3, 4, 0, 5000),
+                OrderStatus.ORDER, new Address("서울", "강가", "123-123"),
+                List.of(new OrderItemQueryDTO(1L, "JPA", 10000, 2)));
+
+        ObjectMapper beanMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        assertThat(objectMapper.writeValueAsString(order)).isEqualTo(beanMapper.writeValueAsString(order));
+    }
+
+    @Test
+    @DisplayName("주문 스트리밍 (gzip)")
+    void ordersV8() throws Exception {
+        JsonNode v6 = objectMapper.readTree(mockMvc.perform(get("/api/v6/orders"))
+                .andReturn().getResponse().getContentAsByteArray());
+
+        MockHttpServletResponse plain = mockMvc.perform(get("/api/v8/orders"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse gzip = mockMvc.perform(get("/api/v8/orders").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        JsonNode v8 = objectMapper.readTree(plain.getContentAsByteArray());
+        assertThat(v8.size()).isEqualTo(v6.size());
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))))
+                .isEqualTo(v8);
+    }
+
+    @Test
+    @DisplayName("주문 스트리밍_gzip;q=0 이면 압축하지 않음")
+    void ordersV8GzipRejected() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v8/orders").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding q 값 해석")
+    void acceptsGzip() {
+        assertThat(OrderJsonWriter.acceptsGzip("gzip")).isTrue();
+        assertThat(OrderJsonWriter.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(OrderJsonWriter.acceptsGzip("br, *;q=0.1")).isTrue();
+        assertThat(OrderJsonWriter.acceptsGzip("GZIP; Q=1.0")).isTrue();
+
+        assertThat(OrderJsonWriter.acceptsGzip(null)).isFalse();
+        assertThat(OrderJsonWriter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(OrderJsonWriter.acceptsGzip("gzip;q=0.000, *")).isFalse();
+        assertThat(OrderJsonWriter.acceptsGzip("*;q=0")).isFalse();
+        assertThat(OrderJsonWriter.acceptsGzip("br, identity")).isFalse();
+    }
+}
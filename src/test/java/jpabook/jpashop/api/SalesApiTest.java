@@ -0,0 +1,45 @@
+package jpabook.jpashop.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SalesApiTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, SalesApiController.MAX_TOP_ITEMS + 1})
+    @DisplayName("상위 상품_limit 범위 밖이면 400")
+    void topItemsInvalidLimit(int limit) throws Exception {
+        mockMvc.perform(get("/api/sales/top-items")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().toString())
+                        .param("limit", String.valueOf(limit)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, SalesApiController.MAX_TOP_ITEMS})
+    @DisplayName("상위 상품_limit 경계값")
+    void topItemsLimit(int limit) throws Exception {
+        mockMvc.perform(get("/api/sales/top-items")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().toString())
+                        .param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,33 @@
+package jpabook.jpashop.controller;
+
+import jpabook.jpashop.domain.order.OrderSearch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class OrderControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("주문 검색_page, size 범위 검증")
+    void pageAndSizeBoundaries() throws Exception {
+        // then
+        mockMvc.perform(get("/orders").param("page", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/orders").param("size", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/orders").param("size", String.valueOf(OrderSearch.MAX_SIZE + 1))).andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/orders").param("page", "0").param("size", "1")).andExpect(status().isOk());
+        mockMvc.perform(get("/orders").param("size", String.valueOf(OrderSearch.MAX_SIZE))).andExpect(status().isOk());
+    }
+}
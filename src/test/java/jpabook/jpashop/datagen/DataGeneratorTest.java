@@ -0,0 +1,82 @@
+package jpabook.jpashop.datagen;
+
+import jakarta.persistence.EntityManager;
+import jpabook.jpashop.domain.item.Category;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성기가 트랜잭션을 직접 커밋하므로 @Transactional 롤백X, 테스트 후 컨텍스트(DB) 폐기
+ */
+@SpringBootTest(properties = "jpashop.scheduling.enabled=false")
+@DirtiesContext
+class DataGeneratorTest {
+
+    @Autowired DataGenerator dataGenerator;
+    @Autowired EntityManager em;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("지정한 규모만큼 병렬 생성")
+    public void generate() {
+        // given
+        DataGenSpec spec = new DataGenSpec();
+        spec.setMembers(50);
+        spec.setBooks(10);
+        spec.setAlbums(5);
+        spec.setMovies(5);
+        spec.setCategoryDepth(2);
+        spec.setCategoryFanout(3);
+        spec.setOrders(500);
+        spec.setPartitions(4);
+        spec.setFlushInterval(30);
+        spec.setCommitInterval(100);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long[] before = tx.execute(status -> counts());
+
+        // when
+        DataGenResult result = dataGenerator.generate(spec);
+
+        // then
+        long[] after = tx.execute(status -> counts());
+        assertThat(after[0] - before[0]).isEqualTo(50);
+        assertThat(after[1] - before[1]).isEqualTo(20);
+        assertThat(after[2] - before[2]).isEqualTo(4); // 루트 1 + 하위 3
+        assertThat(after[3] - before[3]).isEqualTo(500);
+        assertThat(after[4] - before[4]).isEqualTo(result.getOrderItems());
+
+        assertThat(result.getOrders()).isEqualTo(500);
+        assertThat(result.getOrderItems()).isBetween(500L, 500L * spec.getLinesPerOrder());
+
+        // 주문 수량은 모두 판매 증감(SalesDelta)으로 기록
+        assertThat(after[5] - before[5]).isEqualTo(after[6] - before[6]);
+    }
+
+    private long[] counts() {
+        return new long[]{
+                count(Member.class), count(Item.class), count(Category.class), count(Order.class), count(OrderItem.class),
+                sum("select sum(oi.count) from OrderItem oi"), sum("select sum(d.units) from SalesDelta d")
+        };
+    }
+
+    private long sum(String query) {
+        Long sum = em.createQuery(query, Long.class).getSingleResult();
+        return sum == null ? 0 : sum;
+    }
+
+    private long count(Class<?> entity) {
+        return em.createQuery("select count(e) from " + entity.getSimpleName() + " e", Long.class).getSingleResult();
+    }
+}
@@ -0,0 +1,97 @@
+package jpabook.jpashop.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 트랜잭션 커밋까지 측정하므로 @Transactional 롤백X
+ */
+@SpringBootTest(properties = "jpashop.scheduling.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MethodMetricsTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired MemberService memberService;
+
+    @Test
+    @DisplayName("service, repository, 커밋, 엔티티 로딩 지표를 메서드별로 기록")
+    void methodMetrics() {
+        // given
+        Member member = new Member();
+        member.setName("회원-" + UUID.randomUUID());
+
+        // when
+        Long memberId = memberService.join(member);
+        memberService.findOne(memberId);
+        memberService.findMembers();
+
+        // then
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_TIMER)
+                .tags("class", "MemberService", "method", "join", "exception", "none")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(MethodMetricsAspect.REPOSITORY_TIMER)
+                .tags("class", "MemberRepository", "method", "save")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(MethodMetricsAspect.COMMIT_TIMER)
+                .tags("method", "MemberService.join", "outcome", "committed")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("jpashop.hibernate.entities.loaded")
+                .tag("entity", "Member")
+                .counters()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Prometheus 형식으로 노출")
+    void prometheus() throws Exception {
+        memberService.findMembers();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("jpashop_service_seconds_count{class=\"MemberService\"")))
+                .andExpect(content().string(containsString("jpashop_service_seconds_bucket{")))
+                .andExpect(content().string(not(containsString("jpashop_repository_seconds_bucket{"))))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")))
+                .andExpect(content().string(containsString("hibernate_")));
+    }
+
+    @Test
+    @DisplayName("같은 태그 조합은 같은 Timer 에 누적")
+    void sameTimer() {
+        // given
+        memberService.findMembers();
+        long before = meterRegistry.get(MethodMetricsAspect.SERVICE_TIMER)
+                .tags("class", "MemberService", "method", "findMembers", "exception", "none")
+                .timer().count();
+
+        // when
+        memberService.findMembers();
+        memberService.findMembers();
+
+        // then
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_TIMER)
+                .tags("class", "MemberService", "method", "findMembers", "exception", "none")
+                .timers()).hasSize(1);
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_TIMER)
+                .tags("class", "MemberService", "method", "findMembers", "exception", "none")
+                .timer().count()).isEqualTo(before + 2);
+    }
+}
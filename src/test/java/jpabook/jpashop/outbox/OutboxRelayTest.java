@@ -0,0 +1,65 @@
+package jpabook.jpashop.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import jpabook.jpashop.domain.outbox.OutboxEventType;
+import jpabook.jpashop.repository.outbox.OutboxRepository;
+import jpabook.jpashop.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"jpashop.outbox.sink=memory", "jpashop.scheduling.enabled=false"})
+@Transactional
+class OutboxRelayTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired OrderService orderService;
+    @Autowired OutboxRelay outboxRelay;
+    @Autowired OutboxRepository outboxRepository;
+    @Autowired InMemoryOutboxSink outboxSink;
+
+    @BeforeEach
+    void setUp() {
+        outboxSink.clear();
+    }
+
+    @Test
+    @DisplayName("주문, 주문 취소 이벤트 전송")
+    public void relay() {
+        // given
+        Member member = new Member();
+        member.setName("회원1");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(10);
+        em.persist(book);
+
+        Long orderId = orderService.order(member.getId(), book.getId(), 2);
+        orderService.cancelOrder(orderId);
+
+        // when
+        int published = outboxRelay.relay();
+
+        // then
+        assertThat(published).isEqualTo(2);
+        assertThat(outboxSink.getEvents())
+                .extracting(OutboxEvent::getEventType)
+                .containsExactly(OutboxEventType.ORDER_PLACED, OutboxEventType.ORDER_CANCELED);
+        assertThat(outboxSink.getEvents().get(0).getPayload()).contains("\"totalPrice\":20000");
+        assertThat(outboxRepository.countPending()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,109 @@
+package jpabook.jpashop.repository.order.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderItem;
+import jpabook.jpashop.monitoring.QueryCountHolder;
+import jpabook.jpashop.monitoring.QueryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderQueryRepositoryTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired OrderQueryRepository orderQueryRepository;
+
+    @Test
+    @DisplayName("IN 절 분할_16 / 64 / 256 개로 채움")
+    void paddedChunks() {
+        // when
+        List<List<Long>> empty = OrderQueryRepository.toPaddedChunks(List.of());
+        List<List<Long>> small = OrderQueryRepository.toPaddedChunks(ids(3));
+        List<List<Long>> medium = OrderQueryRepository.toPaddedChunks(ids(17));
+        List<List<Long>> large = OrderQueryRepository.toPaddedChunks(ids(300));
+
+        // then
+        assertThat(empty).isEmpty();
+
+        assertThat(small).hasSize(1);
+        assertThat(small.get(0)).hasSize(16);
+        assertThat(small.get(0).subList(0, 3)).containsExactly(1L, 2L, 3L);
+        assertThat(small.get(0).subList(3, 16)).containsOnly(3L); // 마지막 id 로 채움
+
+        assertThat(medium).hasSize(1);
+        assertThat(medium.get(0)).hasSize(64);
+
+        assertThat(large).hasSize(2);
+        assertThat(large.get(0)).hasSize(256).doesNotHaveDuplicates();
+        assertThat(large.get(1)).hasSize(64);
+        assertThat(large.get(1).subList(0, 44)).isEqualTo(ids(300).subList(256, 300));
+        assertThat(large.get(1).subList(44, 64)).containsOnly(300L);
+    }
+
+    @Test
+    @DisplayName("주문상품 분할 조회_같은 트랜잭션에서 조각 수만큼 쿼리")
+    void findOrderItemsInChunks() {
+        // given
+        List<Long> orderIds = createOrders(300);
+
+        // when
+        QueryCounter counter = QueryCountHolder.start();
+        List<OrderQueryDTO> result;
+        try {
+            result = orderQueryRepository.findAllByDTO_optimization(orderIds.get(0) - 1, 300);
+        } finally {
+            QueryCountHolder.clear();
+        }
+
+        // then
+        assertThat(counter.getTotal()).isEqualTo(1 + 2); // 주문 1 + 주문상품 ceil(300 / 256)
+        assertThat(result).extracting(OrderQueryDTO::getOrderId).isEqualTo(orderIds);
+        assertThat(result).allSatisfy(o -> assertThat(o.getOrderItems()).hasSize(1));
+    }
+
+    private List<Long> createOrders(int count) {
+        Member member = new Member();
+        member.setName("분할회원");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(count);
+        em.persist(book);
+
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Delivery delivery = new Delivery();
+            delivery.setAddress(member.getAddress());
+            Order order = Order.createOrder(member, delivery, OrderItem.createReservedOrderItem(book, 10000, 1));
+            em.persist(order);
+            orderIds.add(order.getId());
+        }
+        em.flush();
+        em.clear();
+        return orderIds;
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().collect(toList());
+    }
+}
@@ -0,0 +1,100 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Category;
+import jpabook.jpashop.domain.item.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Transactional
+class CategoryServiceTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired CategoryService categoryService;
+    @Autowired CategoryTreeCache categoryTreeCache;
+
+    @AfterEach
+    void tearDown() {
+        // 롤백된 카테고리가 트리에 남지 않도록
+        categoryTreeCache.invalidate();
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 상품 조회")
+    public void findSubtreeItems() {
+        // given
+        Long bookId = categoryService.create("도서", null);
+        Long itId = categoryService.create("IT", bookId);
+        Long jpaId = categoryService.create("JPA", itId);
+        Long albumId = categoryService.create("음반", null);
+
+        Book book1 = createBook("JPA");
+        Book book2 = createBook("SPRING");
+        Book book3 = createBook("ALBUM");
+        categoryService.addItem(jpaId, book1.getId());
+        categoryService.addItem(itId, book2.getId());
+        categoryService.addItem(albumId, book3.getId());
+        em.flush();
+
+        // when
+        List<Item> items = categoryService.findSubtreeItems(bookId, 0, 10);
+
+        // then
+        assertThat(em.find(Category.class, jpaId).getPath()).isEqualTo("/" + bookId + "/" + itId + "/" + jpaId + "/");
+        assertThat(items).extracting(Item::getName).containsExactly("JPA", "SPRING");
+        assertThat(categoryService.findSubtreeItems(jpaId, 0, 10)).extracting(Item::getName).containsExactly("JPA");
+    }
+
+    @Test
+    @DisplayName("카테고리 이동")
+    public void move() {
+        // given
+        Long bookId = categoryService.create("도서", null);
+        Long itId = categoryService.create("IT", bookId);
+        Long jpaId = categoryService.create("JPA", itId);
+        Long albumId = categoryService.create("음반", null);
+
+        // when
+        categoryService.move(itId, albumId);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(em.find(Category.class, jpaId).getPath()).isEqualTo("/" + albumId + "/" + itId + "/" + jpaId + "/");
+        assertThrows(IllegalStateException.class, () -> categoryService.move(albumId, jpaId));
+    }
+
+    private Book createBook(String name) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(10000);
+        book.setStockQuantity(10);
+        em.persist(book);
+        return book;
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리는 IllegalArgumentException")
+    public void unknownCategory() {
+        // given
+        Long bookId = categoryService.create("도서", null);
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> categoryService.create("IT", -1L));
+        assertThrows(IllegalArgumentException.class, () -> categoryService.move(-1L, bookId));
+        assertThrows(IllegalArgumentException.class, () -> categoryService.move(bookId, -1L));
+        assertThrows(IllegalArgumentException.class, () -> categoryService.addItem(-1L, -1L));
+    }
+}
@@ -0,0 +1,107 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Delivery;
+import jpabook.jpashop.domain.order.DeliveryStatus;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class DeliveryServiceTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired OrderService orderService;
+    @Autowired DeliveryService deliveryService;
+
+    @Test
+    @DisplayName("배송 id 로 배송 완료 일괄 처리")
+    public void completeDeliveries() {
+        // given
+        Member member = createMember();
+        Book book = createBook();
+        Order order1 = em.find(Order.class, orderService.order(member.getId(), book.getId(), 1));
+        Order order2 = em.find(Order.class, orderService.order(member.getId(), book.getId(), 1));
+        orderService.cancelOrder(order2.getId());
+
+        Delivery delivery1 = order1.getDelivery();
+        Delivery delivery2 = order2.getDelivery();
+
+        // when
+        int updated = deliveryService.completeDeliveries(List.of(delivery1.getId(), delivery2.getId(), delivery1.getId()));
+
+        // then
+        assertThat(updated).isEqualTo(1); // 취소된 주문의 배송은 제외
+        assertThat(delivery1.getStatus()).isEqualTo(DeliveryStatus.COMP); // 영속성 컨텍스트에도 반영
+        assertThat(delivery2.getStatus()).isNotEqualTo(DeliveryStatus.COMP);
+        assertThat(deliveryService.completeDeliveries(List.of(delivery1.getId()))).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("주문일 범위로 배송 완료 일괄 처리")
+    public void completeDeliveriesByOrderDate() {
+        // given
+        Member member = createMember();
+        Book book = createBook();
+        Long orderId1 = orderService.order(member.getId(), book.getId(), 1);
+        Long orderId2 = orderService.order(member.getId(), book.getId(), 1);
+        Long canceledId = orderService.order(member.getId(), book.getId(), 1);
+        orderService.cancelOrder(canceledId);
+        long expected = countReadyDeliveriesOfToday(); // 다른 테스트, 초기 데이터의 오늘 주문 포함
+
+        // when
+        int updated = deliveryService.completeDeliveriesByOrderDate(LocalDate.now(), LocalDate.now());
+
+        // then
+        assertThat(updated).isEqualTo(expected);
+        assertThat(countReadyDeliveriesOfToday()).isEqualTo(0);
+        assertThat(em.find(Order.class, orderId1).getDelivery().getStatus()).isEqualTo(DeliveryStatus.COMP);
+        assertThat(em.find(Order.class, orderId2).getDelivery().getStatus()).isEqualTo(DeliveryStatus.COMP);
+        assertThat(em.find(Order.class, canceledId).getDelivery().getStatus()).isNotEqualTo(DeliveryStatus.COMP);
+        assertThat(deliveryService.completeDeliveriesByOrderDate(LocalDate.now().minusDays(10), LocalDate.now().minusDays(9)))
+                .isEqualTo(0);
+    }
+
+    private long countReadyDeliveriesOfToday() {
+        return em.createQuery("select count(d) from Order o join o.delivery d" +
+                        " where o.status = :orderStatus" +
+                        " and (d.status is null or d.status = :ready)" +
+                        " and o.orderDate >= :from and o.orderDate < :to", Long.class)
+                .setParameter("orderStatus", OrderStatus.ORDER)
+                .setParameter("ready", DeliveryStatus.READY)
+                .setParameter("from", LocalDate.now().atStartOfDay())
+                .setParameter("to", LocalDate.now().plusDays(1).atStartOfDay())
+                .getSingleResult();
+    }
+
+    private Book createBook() {
+        Book book = new Book();
+        book.setName("JPA");
+        book.setPrice(10000);
+        book.setStockQuantity(10);
+        em.persist(book);
+        return book;
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setName("회원1");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+        return member;
+    }
+}
@@ -1,12 +1,18 @@
 package jpabook.jpashop.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.repository.member.MemberNameIndex;
 import jpabook.jpashop.repository.member.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -21,6 +27,15 @@ class MemberServiceTest {
     @Autowired
     MemberRepository memberRepository;
 
+    @Autowired
+    MemberNameIndex memberNameIndex;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager em;
+
     @Test
     @Rollback(value = false)
     public void 회원가입() {
@@ -47,4 +62,34 @@ class MemberServiceTest {
         assertThrows(IllegalStateException.class,
                 () -> memberService.join(member2));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("회원 이름 인덱스_커밋된 변경만 반영")
+    public void 이름_인덱스_커밋_후_반영() {
+        // given
+        Member member = new Member();
+        member.setName("색인회원");
+        Long memberId = memberService.join(member);
+
+        try {
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                memberService.update(memberId, "변경회원");
+                em.flush();
+                status.setRollbackOnly();
+            });
+
+            // then
+            assertThat(memberNameIndex.search("색인")).contains(memberId);
+            assertThat(memberNameIndex.search("변경")).doesNotContain(memberId);
+
+            memberService.update(memberId, "변경회원");
+            assertThat(memberNameIndex.search("변경")).contains(memberId);
+            assertThat(memberNameIndex.search("색인")).doesNotContain(memberId);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> em.remove(em.find(Member.class, memberId)));
+        }
+        assertThat(memberNameIndex.search("변경")).doesNotContain(memberId);
+    }
+}
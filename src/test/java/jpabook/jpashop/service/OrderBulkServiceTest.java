@@ -0,0 +1,172 @@
+package jpabook.jpashop.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.item.Item;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.DeliveryStatus;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderStatus;
+import jpabook.jpashop.domain.outbox.OutboxEvent;
+import jpabook.jpashop.domain.outbox.OutboxEventType;
+import jpabook.jpashop.dto.BulkOrderDTO;
+import jpabook.jpashop.dto.OrderLineDTO;
+import jpabook.jpashop.exception.NotEnoughStockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Transactional
+class OrderBulkServiceTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired OrderBulkService orderBulkService;
+    @Autowired OrderService orderService;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("대량 주문")
+    void bulkOrder() {
+        // given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 5000);
+
+        List<BulkOrderDTO> orders = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            orders.add(new BulkOrderDTO(member.getId(), List.of(new OrderLineDTO(book.getId(), 2))));
+        }
+
+        // when
+        int count = orderBulkService.bulkOrder(orders);
+
+        // then
+        Long orderCount = em.createQuery("select count(o) from Order o where o.member.id = :memberId", Long.class)
+                .setParameter("memberId", member.getId())
+                .getSingleResult();
+
+        assertThat(count).isEqualTo(2500);
+        assertThat(orderCount).isEqualTo(2500L);
+        assertThat(em.find(Item.class, book.getId()).getStockQuantity()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("대량 주문_재고 수량 초과")
+    void bulkOrderNotEnoughStock() {
+        // given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 3);
+
+        List<BulkOrderDTO> orders = List.of(
+                new BulkOrderDTO(member.getId(), List.of(new OrderLineDTO(book.getId(), 2))),
+                new BulkOrderDTO(member.getId(), List.of(new OrderLineDTO(book.getId(), 2))));
+
+        // then
+        assertThrows(NotEnoughStockException.class,
+                () -> orderBulkService.bulkOrder(orders));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 취소")
+    void cancelOrders() {
+        // given
+        Member member = createMember();
+        Book book1 = createBook("JPA", 10000, 10);
+        Book book2 = createBook("SPRING", 20000, 10);
+
+        Long orderId1 = orderService.order(member.getId(), List.of(new OrderLineDTO(book1.getId(), 2), new OrderLineDTO(book2.getId(), 1)));
+        Long orderId2 = orderService.order(member.getId(), book1.getId(), 3);
+        Long orderId3 = orderService.order(member.getId(), book2.getId(), 4);
+        orderService.cancelOrder(orderId3);
+
+        // when
+        int count = orderBulkService.cancelOrders(List.of(orderId1, orderId2, orderId3, orderId1));
+
+        // then
+        em.refresh(book1);
+        em.refresh(book2);
+
+        assertThat(count).isEqualTo(2); // 이미 취소된 주문 제외
+        assertThat(em.find(Order.class, orderId1).getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(em.find(Order.class, orderId2).getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(book1.getStockQuantity()).isEqualTo(10);
+        assertThat(book2.getStockQuantity()).isEqualTo(10);
+        assertThat(orderBulkService.cancelOrders(List.of(orderId1))).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("주문 일괄 취소_단건 취소와 같은 이벤트 내용")
+    void cancelOrdersEvent() throws Exception {
+        // given
+        Member member = createMember();
+        Book book1 = createBook("JPA", 10000, 10);
+        Book book2 = createBook("SPRING", 20000, 10);
+        Long orderId = orderService.order(member.getId(), List.of(new OrderLineDTO(book1.getId(), 2), new OrderLineDTO(book2.getId(), 1)));
+
+        // when
+        orderBulkService.cancelOrders(List.of(orderId));
+
+        // then
+        OutboxEvent event = em.createQuery("select e from OutboxEvent e" +
+                        " where e.aggregateId = :orderId and e.eventType = :eventType", OutboxEvent.class)
+                .setParameter("orderId", orderId)
+                .setParameter("eventType", OutboxEventType.ORDER_CANCELED)
+                .getSingleResult();
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+
+        assertThat(payload.get("orderId").asLong()).isEqualTo(orderId);
+        assertThat(payload.get("memberId").asLong()).isEqualTo(member.getId());
+        assertThat(payload.get("status").asText()).isEqualTo(OrderStatus.CANCEL.name());
+        assertThat(payload.get("totalPrice").asInt()).isEqualTo(40000);
+        assertThat(payload.get("itemCount").asInt()).isEqualTo(3);
+        assertThat(payload.get("orderDate").isNull()).isFalse();
+        assertThat(payload.get("orderLines")).hasSize(2);
+        assertThat(payload.get("orderLines").get(0).get("itemId").asLong()).isEqualTo(book1.getId());
+        assertThat(payload.get("orderLines").get(0).get("count").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문 일괄 취소_배송 완료된 주문 포함")
+    void cancelOrdersDelivered() {
+        // given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 10);
+
+        Long orderId1 = orderService.order(member.getId(), book.getId(), 2);
+        Long orderId2 = orderService.order(member.getId(), book.getId(), 2);
+        em.find(Order.class, orderId2).getDelivery().setStatus(DeliveryStatus.COMP);
+
+        // then
+        assertThrows(IllegalStateException.class,
+                () -> orderBulkService.cancelOrders(List.of(orderId1, orderId2)));
+    }
+
+    private Book createBook(String name, int price, int stockQuantity) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(price);
+        book.setStockQuantity(stockQuantity);
+        em.persist(book);
+        return book;
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setName("회원1");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+        return member;
+    }
+}
@@ -6,8 +6,11 @@ import jpabook.jpashop.domain.item.Book;
 import jpabook.jpashop.domain.member.Address;
 import jpabook.jpashop.domain.member.Member;
 import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.domain.order.OrderSearch;
+import jpabook.jpashop.repository.member.MemberNameIndex;
 import jpabook.jpashop.repository.order.OrderRepository;
 import jpabook.jpashop.domain.order.OrderStatus;
+import jpabook.jpashop.dto.OrderLineDTO;
 import jpabook.jpashop.exception.NotEnoughStockException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -25,6 +30,8 @@ class OrderServiceTest {
     @PersistenceContext EntityManager em;
     @Autowired OrderService orderService;
     @Autowired OrderRepository orderRepository;
+    @Autowired ItemService itemService;
+    @Autowired MemberNameIndex memberNameIndex;
 
     @Test
     @DisplayName("상품 주문")
@@ -44,9 +51,36 @@ class OrderServiceTest {
         assertThat(getOrder.getStatus()).isEqualTo(OrderStatus.ORDER);
         assertThat(getOrder.getOrderItems().size()).isEqualTo(1);
         assertThat(getOrder.getTotalPrice()).isEqualTo(10000 * orderCount);
+        em.refresh(book); // 재고는 update 쿼리로 차감되므로 DB 에서 다시 읽음
         assertThat(book.getStockQuantity()).isEqualTo(8);
     }
 
+    @Test
+    @DisplayName("여러 상품 주문")
+    void orderLines() {
+        // given
+        Member member = createMember();
+        Book book1 = createBook("JPA", 10000, 10);
+        Book book2 = createBook("SPRING", 20000, 10);
+
+        // when
+        Long orderId = orderService.order(member.getId(), List.of(
+                new OrderLineDTO(book1.getId(), 2),
+                new OrderLineDTO(book2.getId(), 1),
+                new OrderLineDTO(book1.getId(), 1)));
+
+        // then
+        Order getOrder = orderRepository.findOne(orderId);
+
+        assertThat(getOrder.getOrderItems().size()).isEqualTo(2);
+        assertThat(getOrder.getTotalPrice()).isEqualTo(10000 * 3 + 20000);
+        assertThat(getOrder.getItemCount()).isEqualTo(4);
+        em.refresh(book1);
+        em.refresh(book2);
+        assertThat(book1.getStockQuantity()).isEqualTo(7);
+        assertThat(book2.getStockQuantity()).isEqualTo(9);
+    }
+
     @Test
     @DisplayName("상품 주문_재고 수량 초과")
     void invalidStockQuantity() {
@@ -62,6 +96,17 @@ class OrderServiceTest {
                 () -> orderService.order(member.getId(), book.getId(), orderCount));
     }
 
+    @Test
+    @DisplayName("상품 주문_존재하지 않는 상품은 재고 부족과 구분")
+    void unknownItem() {
+        // given
+        Member member = createMember();
+
+        // then
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.order(member.getId(), -1L, 1));
+    }
+
     @Test
     @DisplayName("주문 취소")
     void cancel() {
@@ -78,9 +123,158 @@ class OrderServiceTest {
         // then
         Order getOrder = orderRepository.findOne(orderId);
         assertThat(getOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+        em.refresh(book);
         assertThat(book.getStockQuantity()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("주문 취소_이미 취소된 주문은 다시 취소할 수 없음")
+    void cancelTwice() {
+        // given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 10);
+        Long orderId = orderService.order(member.getId(), book.getId(), 2);
+        orderService.cancelOrder(orderId);
+
+        // then
+        assertThrows(IllegalStateException.class, () -> orderService.cancelOrder(orderId));
+        em.refresh(book);
+        assertThat(book.getStockQuantity()).isEqualTo(10); // 재고를 두 번 복구하지 않음
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품 주문")
+    void orderShardedStock() {
+        // given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 10);
+        itemService.shardStock(book.getId(), 4); // 3, 3, 2, 2
+
+        // when
+        orderService.order(member.getId(), book.getId(), 3);
+
+        // then
+        em.refresh(book);
+        assertThat(book.getStockShards().size()).isEqualTo(4);
+        assertThat(book.getStockQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품 주문_한 버킷보다 많은 수량은 여러 버킷에서 차감")
+    void orderShardedStockAcrossBuckets() {
+        // given
+        Member member = createMember();
+        Book book = createBook("JPA", 10000, 10);
+        itemService.shardStock(book.getId(), 4); // 3, 3, 2, 2
+
+        // when
+        orderService.order(member.getId(), book.getId(), 8);
+
+        // then
+        em.refresh(book);
+        book.getStockShards().forEach(em::refresh);
+        assertThat(book.getStockQuantity()).isEqualTo(2);
+        assertThat(book.getStockShards()).allMatch(shard -> shard.getStockQuantity() >= 0);
+        assertThrows(NotEnoughStockException.class,
+                () -> orderService.order(member.getId(), book.getId(), 3));
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품_엔티티 재고 변경도 버킷에 반영")
+    void shardedStockEntity() {
+        // given
+        Book book = createBook("JPA", 10000, 10);
+        book.shardStock(4); // 3, 3, 2, 2
+
+        // when
+        book.removeStock(7);
+        book.addStock(1);
+
+        // then
+        assertThat(book.getStockQuantity()).isEqualTo(4);
+        assertThrows(NotEnoughStockException.class, () -> book.removeStock(5));
+    }
+
+    @Test
+    @DisplayName("주문 검색_회원 이름")
+    void findOrdersByMemberName() {
+        // given
+        Member member = createMember(); // 회원1
+        Book book = createBook("JPA", 10000, 10);
+        orderService.order(member.getId(), book.getId(), 1);
+        memberNameIndex.put(member.getId(), member.getName()); // 인덱스는 커밋 후 갱신되므로 직접 반영
+
+        OrderSearch prefix = new OrderSearch();
+        prefix.setMemberName("회원");
+
+        OrderSearch contains = new OrderSearch();
+        contains.setMemberName("원1");
+        contains.setNameMatch(OrderSearch.NameMatch.CONTAINS);
+
+        OrderSearch notPrefix = new OrderSearch();
+        notPrefix.setMemberName("원1");
+
+        // then
+        assertThat(orderService.countOrders(prefix)).isEqualTo(1);
+        assertThat(orderService.findOrders(contains)).hasSize(1);
+        assertThat(orderService.findOrders(notPrefix)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 검색_회원 이름 중간 일치, 후보 회원이 많으면 like 로만 검색")
+    void findOrdersByMemberNameManyCandidates() {
+        // given
+        Member member = createMember(); // 회원1
+        Book book = createBook("JPA", 10000, 10);
+        orderService.order(member.getId(), book.getId(), 1);
+        memberNameIndex.put(member.getId(), member.getName());
+        for (long id = 1; id <= 1500; id++) {
+            memberNameIndex.put(-id, "회원" + id); // 주문이 없는 후보
+        }
+
+        OrderSearch contains = new OrderSearch();
+        contains.setMemberName("원1");
+        contains.setNameMatch(OrderSearch.NameMatch.CONTAINS);
+
+        try {
+            // then
+            assertThat(memberNameIndex.search("원1").size()).isGreaterThan(1000);
+            assertThat(orderService.findOrders(contains))
+                    .extracting(o -> o.getMember().getId())
+                    .contains(member.getId());
+        } finally {
+            for (long id = 1; id <= 1500; id++) {
+                memberNameIndex.put(-id, null);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("주문 검색_상품, 주문 금액")
+    void findOrdersByItemAndTotalPrice() {
+        // given
+        Member member = createMember();
+        Book book1 = createBook("JPA", 10000, 10);
+        Book book2 = createBook("SPRING", 20000, 10);
+        orderService.order(member.getId(), book1.getId(), 1);
+        orderService.order(member.getId(), book2.getId(), 2);
+
+        OrderSearch byItem = new OrderSearch();
+        byItem.setMemberName("회원1");
+        byItem.setItemId(book1.getId());
+
+        OrderSearch byTotalPrice = new OrderSearch();
+        byTotalPrice.setMemberName("회원1");
+        byTotalPrice.setMinTotalPrice(30000);
+
+        // then
+        assertThat(orderService.findOrders(byItem)).hasSize(1);
+        assertThat(orderService.findOrders(byTotalPrice))
+                .extracting(Order::getTotalPrice)
+                .containsExactly(40000);
+        assertThat(orderService.countOrders(byTotalPrice)).isEqualTo(1);
+    }
+
     private Book createBook(String name, int price, int stockQuantity) {
         Book book = new Book();
         book.setName(name);
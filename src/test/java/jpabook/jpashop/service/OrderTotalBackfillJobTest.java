@@ -0,0 +1,94 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.domain.order.Order;
+import jpabook.jpashop.dto.OrderLineDTO;
+import jpabook.jpashop.repository.order.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderTotalBackfillJobTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired OrderService orderService;
+    @Autowired OrderRepository orderRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("주문 합계 보정_컬럼 추가 전 주문(기본값 0)의 금액, 수량을 주문상품으로 다시 계산")
+    void backfill() {
+        // given
+        Member member = createMember();
+        Book book1 = createBook("JPA", 10000);
+        Book book2 = createBook("SPRING", 20000);
+        Long orderId1 = orderService.order(member.getId(), List.of(new OrderLineDTO(book1.getId(), 2), new OrderLineDTO(book2.getId(), 1)));
+        Long orderId2 = orderService.order(member.getId(), book2.getId(), 3);
+        em.flush();
+
+        em.createNativeQuery("update orders set total_price = default, item_count = default where order_id in (:ids)")
+                .setParameter("ids", List.of(orderId1, orderId2))
+                .executeUpdate();
+        em.clear();
+        assertThat(em.find(Order.class, orderId1).getTotalPrice()).isZero();
+        em.clear();
+
+        // when
+        new OrderTotalBackfillJob(orderRepository, transactionManager).afterSingletonsInstantiated();
+        em.clear();
+
+        // then
+        Order order1 = em.find(Order.class, orderId1);
+        Order order2 = em.find(Order.class, orderId2);
+        assertThat(order1.getTotalPrice()).isEqualTo(10000 * 2 + 20000);
+        assertThat(order1.getItemCount()).isEqualTo(3);
+        assertThat(order2.getTotalPrice()).isEqualTo(20000 * 3);
+        assertThat(order2.getItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("주문 합계 컬럼은 NOT NULL, 기본값 0")
+    void columnDefaults() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> columns = em.createNativeQuery("select column_name, is_nullable, column_default" +
+                        " from information_schema.columns" +
+                        " where table_name = 'ORDERS' and column_name in ('TOTAL_PRICE', 'ITEM_COUNT')")
+                .getResultList();
+
+        assertThat(columns).hasSize(2);
+        assertThat(columns).allSatisfy(column -> {
+            assertThat(column[1]).isEqualTo("NO");
+            assertThat(column[2]).isEqualTo("0");
+        });
+    }
+
+    private Book createBook(String name, int price) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(price);
+        book.setStockQuantity(10);
+        em.persist(book);
+        return book;
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setName("회원1");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+        return member;
+    }
+}
@@ -0,0 +1,83 @@
+package jpabook.jpashop.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jpabook.jpashop.domain.item.Book;
+import jpabook.jpashop.domain.member.Address;
+import jpabook.jpashop.domain.member.Member;
+import jpabook.jpashop.dto.DailySalesDTO;
+import jpabook.jpashop.dto.ItemSalesDTO;
+import jpabook.jpashop.dto.OrderLineDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "jpashop.scheduling.enabled=false")
+@Transactional
+class SalesServiceTest {
+
+    @PersistenceContext EntityManager em;
+    @Autowired OrderService orderService;
+    @Autowired OrderBulkService orderBulkService;
+    @Autowired SalesService salesService;
+    @Autowired SalesRollupJob salesRollupJob;
+
+    @Test
+    @DisplayName("주문, 취소 판매 집계")
+    public void rollup() {
+        // given
+        Member member = createMember();
+        Book book1 = createBook("JPA", 10000);
+        Book book2 = createBook("SPRING", 20000);
+        LocalDate today = LocalDate.now();
+
+        orderService.order(member.getId(), List.of(new OrderLineDTO(book1.getId(), 2), new OrderLineDTO(book2.getId(), 1)));
+        orderService.order(member.getId(), book2.getId(), 3);
+        Long canceledId = orderService.order(member.getId(), book1.getId(), 5);
+        orderService.cancelOrder(canceledId);
+        Long bulkCanceledId = orderService.order(member.getId(), book2.getId(), 1);
+        orderBulkService.cancelOrders(List.of(bulkCanceledId));
+
+        // when
+        salesRollupJob.rollup();
+
+        // then
+        List<ItemSalesDTO> topItems = salesService.findTopItems(today, today, 10, false);
+        assertThat(topItems).extracting(ItemSalesDTO::getItemId).containsExactly(book2.getId(), book1.getId());
+        assertThat(topItems).extracting(ItemSalesDTO::getUnits).containsExactly(4L, 2L);
+        assertThat(topItems).extracting(ItemSalesDTO::getRevenue).containsExactly(80000L, 20000L);
+
+        List<DailySalesDTO> daily = salesService.findDailySales(today, today);
+        assertThat(daily).extracting(DailySalesDTO::getRevenue).containsExactly(100000L);
+
+        // 반영 후 주문 -> 기존 집계 row 에 더함
+        orderService.order(member.getId(), book1.getId(), 10);
+        salesRollupJob.rollup();
+        assertThat(salesService.findTopItems(today, today, 1, true))
+                .extracting(ItemSalesDTO::getUnits).containsExactly(12L);
+    }
+
+    private Book createBook(String name, int price) {
+        Book book = new Book();
+        book.setName(name);
+        book.setPrice(price);
+        book.setStockQuantity(100);
+        em.persist(book);
+        return book;
+    }
+
+    private Member createMember() {
+        Member member = new Member();
+        member.setName("회원1");
+        member.setAddress(new Address("서울", "강가", "123-123"));
+        em.persist(member);
+        return member;
+    }
+}